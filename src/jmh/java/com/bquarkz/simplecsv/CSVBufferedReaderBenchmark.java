@@ -0,0 +1,115 @@
+package com.bquarkz.simplecsv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CSVBufferedReaderBenchmark
+{
+    @Param( { "256", "1024", "8192", "65536" } )
+    private int bufferSize;
+
+    @Param( { "8", "32" } )
+    private int width;
+
+    @Param( { "10000" } )
+    private int length;
+
+    @Param( { "true", "false" } )
+    private boolean quoted;
+
+    @Param( { "true", "false" } )
+    private boolean synchronizedReads;
+
+    private CSVDelimiters delimiters;
+    private String content;
+    private byte[] bytes;
+
+    @Setup
+    public void setup()
+    {
+        delimiters = new CSVDelimiters();
+        content = CSVDatasets.join( CSVDatasets.rows( width, length, quoted, delimiters ), delimiters );
+        bytes = content.getBytes( StandardCharsets.UTF_8 );
+    }
+
+    @Benchmark
+    public void readRows( Blackhole blackhole ) throws IOException
+    {
+        try( final CSVBufferedReader reader = new CSVBufferedReader( new StringReader( content ), bufferSize, delimiters, false, synchronizedReads ) )
+        {
+            CSVBufferedReader.Row row;
+            while( ( row = reader.nextRow() ) != null )
+            {
+                blackhole.consume( row );
+            }
+        }
+    }
+
+    @Benchmark
+    public void readRowsAsStrings( Blackhole blackhole ) throws IOException
+    {
+        try( final CSVBufferedReader reader = new CSVBufferedReader( new StringReader( content ), bufferSize, delimiters, false, synchronizedReads ) )
+        {
+            String row;
+            while( ( row = reader.readNextRow() ) != null )
+            {
+                blackhole.consume( row );
+            }
+        }
+    }
+
+    @Benchmark
+    public void readFields( Blackhole blackhole ) throws IOException
+    {
+        try( final CSVBufferedReader reader = new CSVBufferedReader( new StringReader( content ), bufferSize, delimiters, false, synchronizedReads ) )
+        {
+            CSVBufferedReader.Row row;
+            while( ( row = reader.nextRow() ) != null )
+            {
+                for( int i = 0; i < row.size(); i++ )
+                {
+                    blackhole.consume( row.getField( i ) );
+                }
+            }
+        }
+    }
+
+    /**
+     * Raw byte scan (word at a time delimiter search), to compare with decoding the same bytes through a reader
+     */
+    @Benchmark
+    public void readByteRows( Blackhole blackhole ) throws IOException
+    {
+        try( final CSVBufferedReader reader = new CSVBufferedReader(
+                new ByteArrayInputStream( bytes ), StandardCharsets.UTF_8, bufferSize, delimiters, false, synchronizedReads ) )
+        {
+            CSVBufferedReader.Row row;
+            while( ( row = reader.nextRow() ) != null )
+            {
+                blackhole.consume( row );
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.bquarkz.simplecsv;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic CSV content for the benchmarks, the same width, length and seed always give the same dataset
+ */
+final class CSVDatasets
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final long SEED = 0x5EED_C5F0L;
+    private static final String[] WORDS = { "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel" };
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private CSVDatasets()
+    {
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Rows of generic columns (words and numbers), every column embraced by the content delimiter when quoted
+     */
+    static String[] rows( int width, int length, boolean quoted, CSVDelimiters delimiters )
+    {
+        final Random random = new Random( SEED );
+        final String[] rows = new String[ length ];
+        final String content = quoted ? delimiters.getContent() : null;
+        for( int r = 0; r < length; r++ )
+        {
+            final String[] columns = new String[ width ];
+            for( int c = 0; c < width; c++ )
+            {
+                final String value = c % 2 == 0
+                        ? WORDS[ random.nextInt( WORDS.length ) ] + " " + WORDS[ random.nextInt( WORDS.length ) ]
+                        : Integer.toString( random.nextInt( 1_000_000 ) );
+                columns[ c ] = CSVUtils.embrace( content, value );
+            }
+            rows[ r ] = String.join( delimiters.getColumn(), columns );
+        }
+        return rows;
+    }
+
+    /**
+     * Rows shaped as {@link BenchmarkBean}, optionally headed by its column names
+     */
+    static String[] beanRows( int length, boolean withHeader, CSVDelimiters delimiters )
+    {
+        final List< String > rows = new ArrayList<>( length + 1 );
+        if( withHeader )
+        {
+            rows.add( String.join( delimiters.getColumn(),
+                    new CSVParserAnnotation<>( BenchmarkBean.class ).getCSVHeaders() ) );
+        }
+
+        final CSVParserAnnotation< BenchmarkBean > parser = new CSVParserAnnotation<>( BenchmarkBean.class );
+        for( BenchmarkBean bean : beans( length ) )
+        {
+            rows.add( parser.toCSV( bean, delimiters ) );
+        }
+        return rows.toArray( new String[ rows.size() ] );
+    }
+
+    static List< BenchmarkBean > beans( int length )
+    {
+        final Random random = new Random( SEED );
+        final List< BenchmarkBean > beans = new ArrayList<>( length );
+        for( int i = 0; i < length; i++ )
+        {
+            final BenchmarkBean bean = new BenchmarkBean();
+            bean.id = i;
+            bean.name = WORDS[ random.nextInt( WORDS.length ) ] + " " + WORDS[ random.nextInt( WORDS.length ) ];
+            bean.amount = random.nextInt( 10_000_000 ) / 100.0;
+            bean.quantity = random.nextLong() >>> 20;
+            bean.active = random.nextBoolean();
+            bean.price = BigDecimal.valueOf( random.nextInt( 1_000_000 ), 2 );
+            bean.note = WORDS[ random.nextInt( WORDS.length ) ];
+            beans.add( bean );
+        }
+        return beans;
+    }
+
+    static String join( String[] rows, CSVDelimiters delimiters )
+    {
+        final StringBuilder sb = new StringBuilder();
+        for( String row : rows )
+        {
+            sb.append( row ).append( delimiters.getRow() );
+        }
+        return sb.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Inner Classes And Patterns
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    @CSVBean
+    public static class BenchmarkBean
+    {
+        @CSVColumn( column = 1 )
+        int id;
+
+        @CSVColumn( column = 2 )
+        String name;
+
+        @CSVColumn( column = 3 )
+        double amount;
+
+        @CSVColumn( column = 4 )
+        long quantity;
+
+        @CSVColumn( column = 5 )
+        boolean active;
+
+        @CSVColumn( column = 6 )
+        BigDecimal price;
+
+        @CSVColumn( column = 7 )
+        String note;
+
+        public BenchmarkBean()
+        {
+        }
+    }
+}
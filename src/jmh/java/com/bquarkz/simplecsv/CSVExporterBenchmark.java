@@ -0,0 +1,104 @@
+package com.bquarkz.simplecsv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.bquarkz.simplecsv.CSVDatasets.BenchmarkBean;
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CSVExporterBenchmark
+{
+    @Param( { "100000" } )
+    private int length;
+
+    /**
+     * default: toString of every value, custom: every column goes through a {@link MappingCSV}
+     */
+    @Param( { "default", "custom" } )
+    private String mapping;
+
+    @Param( { "false", "true" } )
+    private boolean parallel;
+
+    @Param( { "8192", "65536" } )
+    private int bufferSize;
+
+    private List< BenchmarkBean > beans;
+    private CSVExporter< BenchmarkBean > exporter;
+    private CountingOutputStream outputStream;
+
+    @Setup
+    public void setup()
+    {
+        beans = CSVDatasets.beans( length );
+        final CSVExporterBuilder< BenchmarkBean > builder = CSVBuilder
+                .newExporter( BenchmarkBean.class )
+                .withDelimiters( new CSVDelimiters() )
+                .writingHeaders( true )
+                .writingInParallel( parallel )
+                .withBufferSize( bufferSize );
+        if( "custom".equals( mapping ) )
+        {
+            builder.withMappings(
+                    MappingCSV.mapping( "id" ),
+                    MappingCSV.mapping( "name", Object::toString ),
+                    MappingCSV.mapping( "amount", value -> String.format( "%.2f", value ) ),
+                    MappingCSV.mapping( "quantity" ),
+                    MappingCSV.mapping( "active", value -> (Boolean)value ? "Y" : "N" ),
+                    MappingCSV.mapping( "price" ),
+                    MappingCSV.mapping( "note" ) );
+        }
+        exporter = builder.build();
+        outputStream = new CountingOutputStream();
+    }
+
+    @Benchmark
+    public long write() throws IOException
+    {
+        outputStream.count = 0;
+        try( final CSVExporter< BenchmarkBean >.CSVWriter writer = exporter.toOutputStream( outputStream ) )
+        {
+            writer.write( beans );
+        }
+        return outputStream.count;
+    }
+
+    /**
+     * Discards everything, only the number of bytes is kept so the writes can't be optimized away
+     */
+    private static final class CountingOutputStream extends OutputStream
+    {
+        private long count;
+
+        @Override
+        public void write( int b )
+        {
+            count++;
+        }
+
+        @Override
+        public void write( byte[] b, int off, int len )
+        {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.bquarkz.simplecsv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import com.bquarkz.simplecsv.CSVDatasets.BenchmarkBean;
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CSVImporterBenchmark
+{
+    @Param( { "100000" } )
+    private int length;
+
+    @Param( { "8192", "65536" } )
+    private int bufferSize;
+
+    @Param( { "false", "true" } )
+    private boolean parallel;
+
+    @Param( { "false", "true" } )
+    private boolean readAhead;
+
+    @Param( { "false", "true" } )
+    private boolean scanBytes;
+
+    /**
+     * none, gzip (one member, inflated on a read ahead thread) or blocked (BGZF, inflated in parallel)
+     */
+    @Param( { "none", "gzip", "blocked" } )
+    private String compression;
+
+    private byte[] content;
+    private CSVImporter< BenchmarkBean > importer;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        final CSVDelimiters delimiters = new CSVDelimiters();
+        content = compress( CSVDatasets
+                .join( CSVDatasets.beanRows( length, true, delimiters ), delimiters )
+                .getBytes( StandardCharsets.UTF_8 ) );
+        importer = CSVBuilder
+                .newImporter( BenchmarkBean.class )
+                .withDelimiters( delimiters )
+                .withBeanFactory( BenchmarkBean::new )
+                .skippingHeader( true )
+                .withBufferSize( bufferSize )
+                .readingInParallel( parallel )
+                .readingAhead( readAhead )
+                .scanningBytes( scanBytes )
+                .build();
+    }
+
+    private byte[] compress( byte[] plain ) throws IOException
+    {
+        if( "none".equals( compression ) ) return plain;
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream( plain.length );
+        try( final OutputStream output = "gzip".equals( compression )
+                ? new GZIPOutputStream( bytes )
+                : new CSVGzipOutputStream( bytes ) )
+        {
+            output.write( plain );
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public long importStream() throws IOException
+    {
+        try( final CSVImporter< BenchmarkBean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( content ) ) )
+        {
+            return reader.stream().count();
+        }
+    }
+
+    /**
+     * Flyweight read, always sequential so the parallel param does not apply
+     */
+    @Benchmark
+    public long importEach( final Blackhole blackhole ) throws IOException
+    {
+        try( final CSVImporter< BenchmarkBean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( content ) ) )
+        {
+            return reader.readEach( blackhole::consume );
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.bquarkz.simplecsv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.bquarkz.simplecsv.CSVDatasets.BenchmarkBean;
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CSVParserAnnotationBenchmark
+{
+    private static final int ROWS = 1024;
+
+    /**
+     * default: auto mapper only, custom: every non primitive column goes through a {@link MappingBean}
+     */
+    @Param( { "default", "custom" } )
+    private String mapping;
+
+    private CSVDelimiters delimiters;
+    private CSVParserAnnotation< BenchmarkBean > parser;
+    private Supplier< BenchmarkBean > factory;
+    private MapperBean[] mappers;
+    private String[] rows;
+    private CSVBufferedReader.Row[] tokenizedRows;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        delimiters = new CSVDelimiters();
+        parser = new CSVParserAnnotation<>( BenchmarkBean.class );
+        factory = BenchmarkBean::new;
+        mappers = "custom".equals( mapping )
+                ? parser.indexBeanMappers(
+                        MappingBean.mapping( "name", String::trim ),
+                        MappingBean.mapping( "price", BigDecimal::new ),
+                        MappingBean.mapping( "note", String::toUpperCase ) )
+                : parser.indexBeanMappers();
+
+        rows = CSVDatasets.beanRows( ROWS, false, delimiters );
+        tokenizedRows = new CSVBufferedReader.Row[ ROWS ];
+        final String content = CSVDatasets.join( rows, delimiters );
+        try( final CSVBufferedReader reader = new CSVBufferedReader( new StringReader( content ), 8192, delimiters, false ) )
+        {
+            for( int i = 0; i < ROWS; i++ )
+            {
+                tokenizedRows[ i ] = reader.nextRow();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( ROWS )
+    public void stringToBean( Blackhole blackhole )
+    {
+        for( String row : rows )
+        {
+            blackhole.consume( parser.toBean( row, delimiters, factory, mappers ) );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( ROWS )
+    public void rowToBean( Blackhole blackhole )
+    {
+        for( CSVBufferedReader.Row row : tokenizedRows )
+        {
+            blackhole.consume( parser.toBean( row, delimiters, factory, mappers ) );
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.bquarkz.simplecsv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CSVUtilsBenchmark
+{
+    private static final int ROWS = 1024;
+
+    @Param( { "8", "32" } )
+    private int width;
+
+    @Param( { "true", "false" } )
+    private boolean quoted;
+
+    private CSVDelimiters delimiters;
+    private String[] rows;
+
+    @Setup
+    public void setup()
+    {
+        delimiters = new CSVDelimiters();
+        rows = CSVDatasets.rows( width, ROWS, quoted, delimiters );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( ROWS )
+    public void splitOnColumns( Blackhole blackhole )
+    {
+        for( String row : rows )
+        {
+            blackhole.consume( CSVUtils.splitOnColumns( row, delimiters.getContent(), delimiters.getColumn() ) );
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.bquarkz.simplecsv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Char buffer the exporter writes rows straight into, only complete rows are ever handed to the writer, so a row
+ * failing half way can still be discarded
+ */
+public final class CSVAppender
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int DEFAULT_CAPACITY = 8192;
+
+    private static final char[] MIN_LONG = Long.toString( Long.MIN_VALUE ).toCharArray();
+    private static final char[] NULL = "null".toCharArray();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final Writer writer;
+    private char[] buffer;
+    private int posix;
+    private int rowStart;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    CSVAppender( Writer writer )
+    {
+        this( writer, DEFAULT_CAPACITY );
+    }
+
+    CSVAppender( Writer writer, int capacity )
+    {
+        if( capacity <= 0 ) throw new IllegalArgumentException( "capacity should be bigger than 0" );
+        this.writer = writer;
+        this.buffer = new char[ capacity ];
+        this.posix = 0;
+        this.rowStart = 0;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    int getPendingChars()
+    {
+        return posix;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    public CSVAppender append( char c ) throws IOException
+    {
+        ensureCapacity( 1 );
+        buffer[ posix++ ] = c;
+        return this;
+    }
+
+    /**
+     * Appends "null" for null, as {@link String#join} would
+     */
+    public CSVAppender append( String string ) throws IOException
+    {
+        if( string == null ) return append( NULL, 0, NULL.length );
+
+        final int length = string.length();
+        ensureCapacity( length );
+        string.getChars( 0, length, buffer, posix );
+        posix += length;
+        return this;
+    }
+
+    public CSVAppender append( char[] chars, int offset, int length ) throws IOException
+    {
+        ensureCapacity( length );
+        System.arraycopy( chars, offset, buffer, posix, length );
+        posix += length;
+        return this;
+    }
+
+    public CSVAppender appendInt( int value ) throws IOException
+    {
+        return appendLong( value );
+    }
+
+    /**
+     * Writes the digits straight into the buffer, same output as {@link Long#toString(long)}
+     */
+    public CSVAppender appendLong( long value ) throws IOException
+    {
+        if( value == Long.MIN_VALUE ) return append( MIN_LONG, 0, MIN_LONG.length );
+
+        final boolean negative = value < 0;
+        long magnitude = negative ? -value : value;
+        int digits = 1;
+        for( long bound = 10; digits < 19 && magnitude >= bound; bound *= 10 )
+        {
+            digits++;
+        }
+
+        final int length = negative ? digits + 1 : digits;
+        ensureCapacity( length );
+        if( negative ) buffer[ posix ] = '-';
+        int digitPosix = posix + length;
+        do
+        {
+            buffer[ --digitPosix ] = (char)( '0' + magnitude % 10 );
+            magnitude /= 10;
+        } while( magnitude != 0 );
+        posix += length;
+        return this;
+    }
+
+    public CSVAppender appendBoolean( boolean value ) throws IOException
+    {
+        return append( value ? "true" : "false" );
+    }
+
+    /**
+     * Marks everything appended so far as complete rows, which may be flushed from now on
+     */
+    void endRow()
+    {
+        rowStart = posix;
+    }
+
+    /**
+     * Drops whatever was appended since the last complete row
+     */
+    void discardRow()
+    {
+        posix = rowStart;
+    }
+
+    void flush() throws IOException
+    {
+        flushRows();
+        writer.flush();
+    }
+
+    private void flushRows() throws IOException
+    {
+        if( rowStart == 0 ) return;
+        writer.write( buffer, 0, rowStart );
+        System.arraycopy( buffer, rowStart, buffer, 0, posix - rowStart );
+        posix -= rowStart;
+        rowStart = 0;
+    }
+
+    /**
+     * Makes room for more chars, flushing complete rows first and growing the buffer only when a single row
+     * does not fit on it
+     */
+    private void ensureCapacity( int length ) throws IOException
+    {
+        if( posix + length <= buffer.length ) return;
+        flushRows();
+        if( posix + length > buffer.length )
+        {
+            buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, posix + length ) );
+        }
+    }
+}
@@ -9,6 +9,9 @@ public class CSVBaseAutoMapper implements CSVAutoMapper
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constants
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Special Fields And Injections
@@ -17,12 +20,14 @@ public class CSVBaseAutoMapper implements CSVAutoMapper
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Fields
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final boolean primitiveFastPath;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constructors
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     public CSVBaseAutoMapper()
     {
+        this.primitiveFastPath = isMapInherited( getClass() );
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -33,26 +38,134 @@ public class CSVBaseAutoMapper implements CSVAutoMapper
     // Getters And Setters
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Primitive columns can be parsed straight from the row chars only while {@link #map} keeps this behavior, a
+     * subclass overriding it still gets every column through its own map
+     */
+    boolean hasPrimitiveFastPath()
+    {
+        return primitiveFastPath;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Methods
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static boolean isMapInherited( Class< ? > type )
+    {
+        try
+        {
+            return type.getMethod( "map", Class.class, String.class, String.class ).getDeclaringClass() == CSVBaseAutoMapper.class;
+        }
+        catch( NoSuchMethodException e )
+        {
+            return false;
+        }
+    }
+
+    static int parseInt( char[] chars, int start, int end )
+    {
+        final long value = parseLong( chars, start, end );
+        if( value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ) throw numberFormatException( chars, start, end );
+        return (int)value;
+    }
+
+    static long parseLong( char[] chars, int start, int end )
+    {
+        if( start >= end ) throw numberFormatException( chars, start, end );
+        int posix = start;
+        final boolean negative = chars[ posix ] == '-';
+        if( negative || chars[ posix ] == '+' )
+        {
+            posix++;
+            if( posix == end ) throw numberFormatException( chars, start, end );
+        }
+
+        // accumulates negatively as Long.parseLong does, so Long.MIN_VALUE fits
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for( ; posix < end; posix++ )
+        {
+            final int digit = chars[ posix ] - '0';
+            if( digit < 0 || digit > 9 || result < multiplyLimit ) throw numberFormatException( chars, start, end );
+            result *= 10;
+            if( result < limit + digit ) throw numberFormatException( chars, start, end );
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Plain decimals up to 15 digits are exact as doubles, so a single division is correctly rounded; anything else
+     * (exponents, NaN, longer mantissas) goes through {@link Double#parseDouble(String)}
+     */
+    static double parseDouble( char[] chars, int start, int end )
+    {
+        int posix = start;
+        final boolean negative = posix < end && chars[ posix ] == '-';
+        if( negative || ( posix < end && chars[ posix ] == '+' ) ) posix++;
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for( ; posix < end && digits <= 15; posix++ )
+        {
+            final char c = chars[ posix ];
+            if( c >= '0' && c <= '9' )
+            {
+                mantissa = mantissa * 10 + ( c - '0' );
+                digits++;
+                if( fractionDigits >= 0 ) fractionDigits++;
+            }
+            else if( c == '.' && fractionDigits < 0 )
+            {
+                fractionDigits = 0;
+            }
+            else
+            {
+                break;
+            }
+        }
+
+        if( posix < end || digits == 0 || digits > 15 )
+        {
+            return Double.parseDouble( new String( chars, start, end - start ) );
+        }
+        final double value = fractionDigits <= 0 ? mantissa : mantissa / POWERS_OF_TEN[ fractionDigits ];
+        return negative ? -value : value;
+    }
+
+    static boolean parseBoolean( char[] chars, int start, int end )
+    {
+        return end - start == 4
+                && ( chars[ start ] | 0x20 ) == 't'
+                && ( chars[ start + 1 ] | 0x20 ) == 'r'
+                && ( chars[ start + 2 ] | 0x20 ) == 'u'
+                && ( chars[ start + 3 ] | 0x20 ) == 'e';
+    }
+
+    private static NumberFormatException numberFormatException( char[] chars, int start, int end )
+    {
+        return new NumberFormatException( "For input string: \"" + new String( chars, start, end - start ) + "\"" );
+    }
+
     @Override
     public Object map( final Class< ? > type, final String delimitersContent, final String content )
     {
         final String extract = desembrace( delimitersContent, content );
-        if( type == Integer.class )
+        if( type == Integer.class || type == int.class )
         {
             return CSVAutoMapper.mapInteger( extract );
         }
-        else if( type == Double.class )
+        else if( type == Double.class || type == double.class )
         {
             return CSVAutoMapper.mapDouble( extract );
         }
-        else if( type == Long.class )
+        else if( type == Long.class || type == long.class )
         {
             return CSVAutoMapper.mapLong( extract );
         }
-        else if( type == Float.class )
+        else if( type == Float.class || type == float.class )
         {
             return CSVAutoMapper.mapFloat( extract );
         }
@@ -64,7 +177,7 @@ public class CSVBaseAutoMapper implements CSVAutoMapper
         {
             return CSVAutoMapper.mapString( extract );
         }
-        else if( type == Boolean.class )
+        else if( type == Boolean.class || type == boolean.class )
         {
             return CSVAutoMapper.mapBoolean( extract );
         }
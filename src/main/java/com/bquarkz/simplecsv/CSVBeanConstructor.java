@@ -0,0 +1,153 @@
+package com.bquarkz.simplecsv;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+
+/**
+ * Bean constructor resolved once into a method handle, either the default one or one taking every column by
+ * position, so beans are built without reflective lookups nor field writes per row
+ */
+final class CSVBeanConstructor< BEAN >
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final MethodType DEFAULT_TYPE = MethodType.methodType( Object.class );
+    private static final MethodType POSITIONAL_TYPE = MethodType.methodType( Object.class, Object[].class );
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final Class< BEAN > beanClass;
+    private final MethodHandle constructor;
+    private final Object[] defaults;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private CSVBeanConstructor( Class< BEAN > beanClass, MethodHandle constructor, Object[] defaults )
+    {
+        this.beanClass = beanClass;
+        this.constructor = constructor;
+        this.defaults = defaults;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The public no-args constructor, or null when there is none
+     */
+    static < BEAN > CSVBeanConstructor< BEAN > byDefault( Class< BEAN > beanClass )
+    {
+        try
+        {
+            final Constructor< BEAN > constructor = beanClass.getConstructor();
+            constructor.setAccessible( true );
+            return new CSVBeanConstructor<>(
+                    beanClass,
+                    MethodHandles.lookup().unreflectConstructor( constructor ).asType( DEFAULT_TYPE ),
+                    new Object[ 0 ] );
+        }
+        catch( NoSuchMethodException | IllegalAccessException | SecurityException e )
+        {
+            return null;
+        }
+    }
+
+    /**
+     * The constructor whose parameters are exactly the column types, in column order
+     */
+    static < BEAN > CSVBeanConstructor< BEAN > byPosition( Class< BEAN > beanClass, Class< ? >[] types )
+    {
+        final Constructor< ? > constructor = Arrays
+                .stream( beanClass.getDeclaredConstructors() )
+                .filter( c -> Arrays.equals( c.getParameterTypes(), types ) )
+                .findFirst()
+                .orElseThrow( () -> new ExceptionCSVBeanConfiguration( "bean configuration problem: no constructor taking "
+                        + Arrays.toString( types ) + " by position on bean: " + beanClass.getSimpleName() ) );
+        try
+        {
+            constructor.setAccessible( true );
+            final MethodHandle handle = MethodHandles
+                    .lookup()
+                    .unreflectConstructor( constructor )
+                    .asSpreader( Object[].class, types.length )
+                    .asType( POSITIONAL_TYPE );
+            return new CSVBeanConstructor<>( beanClass, handle, defaultsOf( types ) );
+        }
+        catch( IllegalAccessException | SecurityException e )
+        {
+            throw new ExceptionCSVBeanConfiguration( "bean configuration problem for constructor of: " + beanClass.getSimpleName(), e );
+        }
+    }
+
+    private static Object[] defaultsOf( Class< ? >[] types )
+    {
+        final Object[] defaults = new Object[ types.length ];
+        for( int i = 0; i < types.length; i++ )
+        {
+            if( types[ i ] == int.class ) defaults[ i ] = 0;
+            else if( types[ i ] == long.class ) defaults[ i ] = 0L;
+            else if( types[ i ] == double.class ) defaults[ i ] = 0d;
+            else if( types[ i ] == float.class ) defaults[ i ] = 0f;
+            else if( types[ i ] == short.class ) defaults[ i ] = (short)0;
+            else if( types[ i ] == byte.class ) defaults[ i ] = (byte)0;
+            else if( types[ i ] == char.class ) defaults[ i ] = (char)0;
+            else if( types[ i ] == boolean.class ) defaults[ i ] = false;
+        }
+        return defaults;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Value passed on a column left out of the arguments, null or the primitive zero
+     */
+    Object getDefault( int index )
+    {
+        return defaults[ index ];
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    BEAN newInstance()
+    {
+        try
+        {
+            return beanClass.cast( (Object)constructor.invokeExact() );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVBeanConfiguration( "bean configuration problem: constructor of "
+                    + beanClass.getSimpleName() + " failed", t );
+        }
+    }
+
+    BEAN newInstance( Object[] arguments ) throws ExceptionCSVMapping
+    {
+        try
+        {
+            return beanClass.cast( (Object)constructor.invokeExact( arguments ) );
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "constructor of " + beanClass.getSimpleName() + " doesn't fit the columns", t );
+        }
+    }
+}
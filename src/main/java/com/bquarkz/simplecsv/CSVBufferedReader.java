@@ -2,10 +2,18 @@ package com.bquarkz.simplecsv;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static com.bquarkz.simplecsv.CSVUtils.fromPosixStartsWithDelimiter;
@@ -17,11 +25,13 @@ public class CSVBufferedReader implements Closeable, Iterable< String >
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constants
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Special Fields And Injections
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     private final Object lock;
+    private final boolean synchronizedReads;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Fields
@@ -29,29 +39,112 @@ public class CSVBufferedReader implements Closeable, Iterable< String >
     private final CSVDelimiters delimiters;
     private final int bufferSize;
     private final boolean shouldSkipHeader;
+    private final ByteDelimiters byteDelimiters;
 
     private boolean isHeader;
     private char[] buffer;
     private Reader inputStream;
+    private byte[] byteBuffer;
+    private ByteBuffer byteWords;
+    private InputStream byteStream;
+    private Charset charset;
+    private long consumedBytes;
     private int readPosix;
     private int writePosix;
     private boolean eof;
+    private int[] fieldBounds;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constructors
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     CSVBufferedReader( Reader inputStream, int bufferSize, CSVDelimiters delimiters, boolean shouldSkipHeader )
+    {
+        this( inputStream, bufferSize, delimiters, shouldSkipHeader, true );
+    }
+
+    /**
+     * Without synchronized reads no monitor is taken per row, the reader should then be owned by a single thread
+     * at a time (streams are fine, they never read the source concurrently)
+     */
+    CSVBufferedReader(
+            Reader inputStream,
+            int bufferSize,
+            CSVDelimiters delimiters,
+            boolean shouldSkipHeader,
+            boolean synchronizedReads )
     {
         this.shouldSkipHeader = shouldSkipHeader;
         this.lock = new Object();
+        this.synchronizedReads = synchronizedReads;
         this.inputStream = inputStream;
         this.delimiters = delimiters;
         this.bufferSize = bufferSize;
         this.buffer = new char[ this.bufferSize ];
+        this.byteDelimiters = null;
         this.readPosix = 0;
         this.writePosix = 0;
         this.eof = false;
         this.isHeader = true;
+        this.fieldBounds = new int[ 64 ];
+    }
+
+    /**
+     * Scans the raw bytes instead of decoded chars, only the field slices that become Strings are ever decoded;
+     * the charset and the delimiters should pass {@link #canScanBytes(Charset, CSVDelimiters)}
+     */
+    CSVBufferedReader(
+            InputStream byteStream,
+            Charset charset,
+            int bufferSize,
+            CSVDelimiters delimiters,
+            boolean shouldSkipHeader,
+            boolean synchronizedReads )
+    {
+        if( !canScanBytes( charset, delimiters ) )
+        {
+            throw new IllegalArgumentException( "bytes can't be scanned for charset " + charset + " and given delimiters" );
+        }
+        this.shouldSkipHeader = shouldSkipHeader;
+        this.lock = new Object();
+        this.synchronizedReads = synchronizedReads;
+        this.byteStream = byteStream;
+        this.charset = charset;
+        this.delimiters = delimiters;
+        this.bufferSize = bufferSize;
+        this.byteBuffer = new byte[ this.bufferSize ];
+        this.byteWords = CSVByteSearch.wordsOf( byteBuffer );
+        this.byteDelimiters = new ByteDelimiters( delimiters );
+        this.readPosix = 0;
+        this.writePosix = 0;
+        this.eof = false;
+        this.isHeader = true;
+        this.fieldBounds = new int[ 64 ];
+    }
+
+    /**
+     * Bytes can be scanned when every delimiter is ASCII and the charset encodes ASCII as single bytes that never
+     * show up inside a multibyte sequence
+     */
+    static boolean canScanBytes( Charset charset, CSVDelimiters delimiters )
+    {
+        final boolean asciiCompatible = StandardCharsets.UTF_8.equals( charset )
+                || StandardCharsets.US_ASCII.equals( charset )
+                || StandardCharsets.ISO_8859_1.equals( charset );
+        return asciiCompatible
+                && isAscii( delimiters.getComment() )
+                && isAscii( delimiters.getContent() )
+                && isAscii( delimiters.getRow() )
+                && isAscii( delimiters.getColumn() );
+    }
+
+    private static boolean isAscii( String delimiter )
+    {
+        if( delimiter == null ) return true;
+        for( int i = 0; i < delimiter.length(); i++ )
+        {
+            if( delimiter.charAt( i ) >= 0x80 ) return false;
+        }
+        return true;
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -62,29 +155,87 @@ public class CSVBufferedReader implements Closeable, Iterable< String >
     // Getters And Setters
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Byte offset, on the source, where the next row scan starts; only tracked when scanning bytes
+     */
+    long getPosition()
+    {
+        if( byteStream == null ) throw new IllegalStateException( "positions are only tracked when scanning bytes" );
+        if( !synchronizedReads ) return consumedBytes + readPosix;
+
+        synchronized( lock )
+        {
+            return consumedBytes + readPosix;
+        }
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Methods
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     private void shouldStillOpen() throws IOException
     {
-        if( inputStream == null ) throw new IOException( "Stream closed" );
+        if( inputStream == null && byteStream == null ) throw new IOException( "Stream closed" );
+    }
+
+    /**
+     * Drops whatever is buffered after the source was moved to the given byte offset, scanning goes on from there
+     * (only the very beginning of the source holds the header)
+     */
+    void reposition( long position ) throws IOException
+    {
+        if( byteStream == null ) throw new IllegalStateException( "positions are only tracked when scanning bytes" );
+        if( !synchronizedReads )
+        {
+            _reposition( position );
+            return;
+        }
+
+        synchronized( lock )
+        {
+            _reposition( position );
+        }
+    }
+
+    private void _reposition( long position ) throws IOException
+    {
+        shouldStillOpen();
+        this.consumedBytes = position;
+        this.readPosix = 0;
+        this.writePosix = 0;
+        this.eof = false;
+        this.isHeader = position == 0;
     }
 
     @Override
     public void close() throws IOException
     {
+        if( !synchronizedReads )
+        {
+            _close();
+            return;
+        }
+
         synchronized( lock )
         {
-            if( inputStream == null ) return;
-            try
-            {
-                inputStream.close();
-            }
-            finally
-            {
-                inputStream = null;
-                buffer = null;
-            }
+            _close();
+        }
+    }
+
+    private void _close() throws IOException
+    {
+        if( inputStream == null && byteStream == null ) return;
+        try
+        {
+            if( inputStream != null ) inputStream.close();
+            if( byteStream != null ) byteStream.close();
+        }
+        finally
+        {
+            inputStream = null;
+            byteStream = null;
+            buffer = null;
+            byteBuffer = null;
+            byteWords = null;
         }
     }
 
@@ -144,207 +295,506 @@ public class CSVBufferedReader implements Closeable, Iterable< String >
         return stream( spliteratorUnknownSize( iterator, Spliterator.ORDERED | Spliterator.NONNULL ), false );
     }
 
+    /**
+     * Rows are read sequentially but handed out in chunks, so a parallel stream maps every chunk on its own worker
+     */
+    public Stream< String > readAsParallelStream( int chunkSize )
+    {
+        return readRowsAsParallelStream( chunkSize ).map( Row::getRowContent );
+    }
+
+    public Stream< Row > readRowsAsStream()
+    {
+        return stream( new ChunkSpliterator( DEFAULT_CHUNK_SIZE ), false );
+    }
+
+    public Stream< Row > readRowsAsParallelStream( int chunkSize )
+    {
+        if( chunkSize <= 0 ) throw new IllegalArgumentException( "chunk size should be bigger than 0" );
+        return stream( new ChunkSpliterator( chunkSize ), true );
+    }
+
     public String readNextRow() throws IOException
+    {
+        final Row row = nextRow();
+        return row == null ? null : row.getRowContent();
+    }
+
+    /**
+     * Same as {@link #readNextRow()} but keeps the columns found while scanning the row
+     */
+    public Row nextRow() throws IOException
     {
         Row row = _readNextRow();
         if( row == null ) return null;
         if( shouldSkipHeader && row.isHeader )
         {
-            return readNextRow();
+            row = _readNextRow();
         }
-        else
+        return row;
+    }
+
+    Row _readNextRow() throws IOException
+    {
+        if( !synchronizedReads )
         {
-            return row.getRowContent();
+            shouldStillOpen();
+            return byteStream != null ? scanNextByteRow() : scanNextRow();
+        }
+
+        synchronized( lock )
+        {
+            shouldStillOpen();
+            return byteStream != null ? scanNextByteRow() : scanNextRow();
         }
     }
 
-    Row _readNextRow() throws IOException
+    /**
+     * Finds the next row boundary straight inside the buffer, recording every column boundary on the same pass,
+     * and copies the whole row in a single step
+     */
+    private Row scanNextRow() throws IOException
     {
-        // skip line when it finds a comment delimiter on beginning
-        boolean skipLine = fromPosixStartsWithDelimiter( buffer, readPosix, delimiters.getComment() );
-        boolean eor = false;
-        boolean stateContent = false;
-        final StringBuffer sb = new StringBuffer();
-        do
-        {
-            if( fromPosixStartsWithDelimiter( buffer, readPosix, delimiters.getContent() ) )
+        final String comment = delimiters.getComment();
+        final String content = delimiters.getContent();
+        final String row = delimiters.getRow();
+        final String column = delimiters.getColumn();
+        final boolean hasComment = lengthOf( comment ) > 0;
+        final boolean hasContent = lengthOf( content ) > 0;
+        final boolean hasRow = lengthOf( row ) > 0;
+        final boolean hasColumn = lengthOf( column ) > 0;
+        final int lookAhead = Math.max(
+                Math.max( lengthOf( comment ), lengthOf( column ) ),
+                Math.max( lengthOf( content ), lengthOf( row ) ) );
+        final char contentFirst = hasContent ? content.charAt( 0 ) : 0;
+        final char rowFirst = hasRow ? row.charAt( 0 ) : 0;
+        final char columnFirst = hasColumn ? column.charAt( 0 ) : 0;
+
+        while( true )
+        {
+            if( readPosix + lookAhead > writePosix && !eof )
             {
-                final char[] nextChars = nextFewChars( delimiters.getContent().length() );
-                if( nextChars == null ) break;
-                if( !skipLine ) sb.append( nextChars );
-                stateContent = !stateContent;
+                compactAndFill();
             }
-            else
+            if( readPosix >= writePosix ) return null;
+
+            // skip line when it finds a comment delimiter on beginning
+            final boolean skipLine = hasComment && fromPosixStartsWithDelimiter( buffer, readPosix, writePosix, comment );
+            boolean stateContent = false;
+            int posix = readPosix;
+            int rowEnd;
+            int nFields = 0;
+            int fieldStart = 0; // relative to the row beginning, so it survives buffer compaction
+            while( true )
             {
-                char[] nextChars = nextFewChars( 1 );
-                if( nextChars == null ) break;
-                if( !skipLine ) sb.append( nextChars[ 0 ] );
-            }
+                if( posix + lookAhead > writePosix && !eof )
+                {
+                    posix -= compactAndFill();
+                    continue;
+                }
 
-            if( !stateContent )
-            {
-                if( fromPosixStartsWithDelimiter( buffer, readPosix, delimiters.getRow() ) )
+                if( posix >= writePosix )
+                {
+                    rowEnd = posix;
+                    break;
+                }
+
+                final char c = buffer[ posix ];
+                if( hasContent && c == contentFirst && fromPosixStartsWithDelimiter( buffer, posix, writePosix, content ) )
+                {
+                    stateContent = !stateContent;
+                    posix += content.length();
+                }
+                else if( stateContent )
+                {
+                    posix++;
+                }
+                else if( hasRow && c == rowFirst && fromPosixStartsWithDelimiter( buffer, posix, writePosix, row ) )
+                {
+                    rowEnd = posix;
+                    posix += row.length();
+                    break;
+                }
+                else if( hasColumn && c == columnFirst && fromPosixStartsWithDelimiter( buffer, posix, writePosix, column ) )
+                {
+                    addField( nFields++, fieldStart, posix - readPosix );
+                    posix += column.length();
+                    fieldStart = posix - readPosix;
+                }
+                else
                 {
-                    final char[] nextChars = nextFewChars( delimiters.getRow().length() );// skip the row delimiter
-                    eor = ( nextChars == null ) || !skipLine;
-                    skipLine = false;
+                    posix++;
                 }
             }
-        } while( !eor || skipLine );
-        final String result = sb.toString();
-        final Row row = result.isEmpty() ? null : new Row( isHeader, result );
-        this.isHeader = false;
-        return row;
-    }
 
-    private char[] nextFewChars( int nextFewChars ) throws IOException
-    {
-        final char[] smallBuffer = new char[ nextFewChars ];
-        final int size = copyTo( smallBuffer, 0, nextFewChars );
-        return size == 0 ? null : smallBuffer;
+            final int rowStart = readPosix;
+            final int rowLength = rowEnd - rowStart;
+            readPosix = posix;
+            if( skipLine || rowLength == 0 ) continue;
+
+            // an optional column delimiter closing the row does not open a new column
+            if( nFields == 0 || fieldStart < rowLength )
+            {
+                addField( nFields++, fieldStart, rowLength );
+            }
+
+            final char[] chars = new char[ rowLength ];
+            System.arraycopy( buffer, rowStart, chars, 0, rowLength );
+            final Row result = new Row( isHeader, chars, Arrays.copyOf( fieldBounds, nFields * 2 ), content );
+            this.isHeader = false;
+            return result;
+        }
     }
 
-    private int copyTo( char[] charBuffer, int offset, int length ) throws IOException
+    /**
+     * Same scan as {@link #scanNextRow()} over the raw bytes, the delimiters being ASCII they are compared byte
+     * by byte
+     */
+    private Row scanNextByteRow() throws IOException
     {
-        synchronized( lock )
+        final byte[] comment = byteDelimiters.comment;
+        final byte[] content = byteDelimiters.content;
+        final byte[] row = byteDelimiters.row;
+        final byte[] column = byteDelimiters.column;
+        final boolean hasComment = comment.length > 0;
+        final boolean hasContent = content.length > 0;
+        final boolean hasRow = row.length > 0;
+        final boolean hasColumn = column.length > 0;
+        final int lookAhead = byteDelimiters.lookAhead;
+        final byte contentFirst = byteDelimiters.contentFirst;
+        final byte rowFirst = byteDelimiters.rowFirst;
+        final byte columnFirst = byteDelimiters.columnFirst;
+        final boolean search = byteDelimiters.search;
+        final long contentPattern = byteDelimiters.contentPattern;
+        final long rowPattern = byteDelimiters.rowPattern;
+        final long columnPattern = byteDelimiters.columnPattern;
+
+        while( true )
         {
-            shouldStillOpen();
-
-            if( ( offset < 0 ) || ( length < 0 ) || ( offset > charBuffer.length )
-                    || ( ( offset + length ) > charBuffer.length ) || ( ( offset + length ) < 0 ) )
+            if( readPosix + lookAhead > writePosix && !eof )
             {
-                throw new IndexOutOfBoundsException();
+                compactAndFill();
             }
-            else if( length == 0 )
+            if( readPosix >= writePosix ) return null;
+
+            final boolean skipLine = hasComment && startsWith( byteBuffer, readPosix, writePosix, comment );
+            boolean stateContent = false;
+            int posix = readPosix;
+            int rowEnd;
+            int nFields = 0;
+            int fieldStart = 0;
+            while( true )
             {
-                return 0;
+                if( posix + lookAhead > writePosix && !eof )
+                {
+                    posix -= compactAndFill();
+                    continue;
+                }
+
+                if( posix >= writePosix )
+                {
+                    rowEnd = posix;
+                    break;
+                }
+
+                if( search )
+                {
+                    // jumps to the next byte that may start a delimiter, keeping the look ahead in the buffer
+                    final int limit = eof ? writePosix : writePosix - lookAhead + 1;
+                    final int next = stateContent
+                            ? CSVByteSearch.indexOfAny( byteWords, posix, limit, contentPattern, contentPattern, contentPattern )
+                            : CSVByteSearch.indexOfAny( byteWords, posix, limit, contentPattern, rowPattern, columnPattern );
+                    if( next < 0 )
+                    {
+                        posix = limit;
+                        continue;
+                    }
+                    posix = next;
+                }
+
+                final byte b = byteBuffer[ posix ];
+                if( hasContent && b == contentFirst && startsWith( byteBuffer, posix, writePosix, content ) )
+                {
+                    stateContent = !stateContent;
+                    posix += content.length;
+                }
+                else if( stateContent )
+                {
+                    posix++;
+                }
+                else if( hasRow && b == rowFirst && startsWith( byteBuffer, posix, writePosix, row ) )
+                {
+                    rowEnd = posix;
+                    posix += row.length;
+                    break;
+                }
+                else if( hasColumn && b == columnFirst && startsWith( byteBuffer, posix, writePosix, column ) )
+                {
+                    addField( nFields++, fieldStart, posix - readPosix );
+                    posix += column.length;
+                    fieldStart = posix - readPosix;
+                }
+                else
+                {
+                    posix++;
+                }
             }
 
-            int totalRead = readChunks( charBuffer, offset, length );
-            if( totalRead <= 0 ) return totalRead;
-            while( totalRead < length )
+            final int rowStart = readPosix;
+            final int rowLength = rowEnd - rowStart;
+            readPosix = posix;
+            if( skipLine || rowLength == 0 ) continue;
+
+            if( nFields == 0 || fieldStart < rowLength )
             {
-                final int currentRead = readChunks( charBuffer, offset + totalRead, length - totalRead );
-                if( currentRead <= 0 ) break;
-                totalRead += currentRead;
+                addField( nFields++, fieldStart, rowLength );
             }
-            return totalRead;
+
+            final byte[] bytes = new byte[ rowLength ];
+            System.arraycopy( byteBuffer, rowStart, bytes, 0, rowLength );
+            final Row result = new Row( isHeader, bytes, charset, Arrays.copyOf( fieldBounds, nFields * 2 ), delimiters.getContent() );
+            this.isHeader = false;
+            return result;
         }
     }
 
-    /**
-     * Reads characters into a portion of an array, reading from the underlying
-     * stream if necessary.
-     */
-    private int readChunks( char[] chunk, int offset, int length ) throws IOException
+    private static boolean startsWith( byte[] buffer, int posix, int limit, byte[] delimiter )
     {
-        if( writePosix == 0 )
+        if( posix + delimiter.length > limit ) return false;
+        for( int i = 0; i < delimiter.length; i++ )
         {
-            fillBufferWithFreshBytes();
+            if( buffer[ posix + i ] != delimiter[ i ] ) return false;
         }
+        return true;
+    }
 
-        // copy remaining buffer to output buffer
-        final int delta = ( readPosix + length >= writePosix ) ? writePosix - readPosix : length;
-        if( delta == 0 ) return 0;
-        System.arraycopy( buffer, readPosix, chunk, offset, delta );
-        increaseReadPosixBy( delta );
-        if( inputStream.ready() )
+    private void addField( int index, int start, int end )
+    {
+        if( index * 2 + 1 >= fieldBounds.length )
         {
-            if( readPosix == 0 ) // an entire copy have to be made because, so ...
-            {
-                fillBufferWithFreshBytes();
-            }
+            fieldBounds = Arrays.copyOf( fieldBounds, fieldBounds.length * 2 );
         }
-        return delta;
+        fieldBounds[ index * 2 ] = start;
+        fieldBounds[ index * 2 + 1 ] = end;
+    }
+
+    private static int lengthOf( String delimiter )
+    {
+        return delimiter == null ? 0 : delimiter.length();
     }
 
     /**
-     * Increase readPosix as a circular belt
+     * Moves the unread chars to the beginning of the buffer (growing it when a single row does not fit) and
+     * reads fresh data after them, returns how many positions the unread chars were shifted
      */
-    private void increaseReadPosixBy( int increasePosition )
+    private int compactAndFill() throws IOException
+    {
+        if( byteStream != null ) return compactAndFillBytes();
+
+        final int shift = readPosix;
+        final int remaining = writePosix - readPosix;
+        if( remaining > buffer.length / 2 )
+        {
+            final char[] grown = new char[ buffer.length * 2 ];
+            System.arraycopy( buffer, readPosix, grown, 0, remaining );
+            buffer = grown;
+        }
+        else if( shift > 0 )
+        {
+            System.arraycopy( buffer, readPosix, buffer, 0, remaining );
+        }
+        readPosix = 0;
+        writePosix = remaining;
+        fillBufferWithFreshBytes();
+        return shift;
+    }
+
+    private int compactAndFillBytes() throws IOException
     {
-        readPosix += increasePosition;
-        if( readPosix >= bufferSize )
+        final int shift = readPosix;
+        final int remaining = writePosix - readPosix;
+        if( remaining > byteBuffer.length / 2 )
+        {
+            final byte[] grown = new byte[ byteBuffer.length * 2 ];
+            System.arraycopy( byteBuffer, readPosix, grown, 0, remaining );
+            byteBuffer = grown;
+            byteWords = CSVByteSearch.wordsOf( grown );
+        }
+        else if( shift > 0 )
+        {
+            System.arraycopy( byteBuffer, readPosix, byteBuffer, 0, remaining );
+        }
+        readPosix = 0;
+        writePosix = remaining;
+        consumedBytes += shift;
+
+        shouldStillOpen();
+        final int nBytes = byteStream.read( byteBuffer, writePosix, byteBuffer.length - writePosix );
+        if( nBytes < 0 )
+        {
+            eof = true;
+        }
+        else
         {
-            readPosix -= bufferSize;
+            writePosix += nBytes;
         }
+        return shift;
     }
 
     /**
-     * Fills the input buffer with fresh data
+     * Fills the free tail of the buffer with fresh data, only called while scanning a row so it is already guarded
+     * whenever reads are synchronized
      */
     private void fillBufferWithFreshBytes() throws IOException
     {
-        synchronized( lock )
+        shouldStillOpen();
+
+        final int nChars = inputStream.read( buffer, writePosix, buffer.length - writePosix );
+        if( nChars < 0 )
+        {
+            eof = true;
+        }
+        else
         {
-            eof = false;
+            writePosix += nChars;
+        }
+    }
 
-            shouldStillOpen();
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Inner Classes And Patterns
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final class ChunkSpliterator implements Spliterator< Row >
+    {
+        private final int chunkSize;
 
-            if( writePosix == bufferSize || writePosix == 0 ) // fills a entire buffer on a single step
+        ChunkSpliterator( int chunkSize )
+        {
+            this.chunkSize = chunkSize;
+        }
+
+        private Row readRow()
+        {
+            try
             {
-                int nCharsSingleStep = inputStream.read( buffer, 0, bufferSize );
-                if( nCharsSingleStep <= 0 )
-                {
-                    eof = true;
-                }
-                else if( nCharsSingleStep < bufferSize )
-                {
-                    eof = true;
-                    writePosix = nCharsSingleStep; // input stream could have less bytes than buffer
-                }
-                else
-                {
-                    writePosix = bufferSize;
-                }
+                return nextRow();
             }
-            else
+            catch( IOException e )
             {
-                int delta = bufferSize - writePosix;
-                int nCharsStepOne = inputStream.read( buffer, writePosix, delta );
-                if( nCharsStepOne <= 0 )
-                {
-                    eof = true;
-                }
-                else if( nCharsStepOne < delta )
-                {
-                    eof = true;
-                    writePosix = nCharsStepOne;
-                }
-                else
-                {
-                    int nCharsStepTwo = inputStream.read( buffer, 0, writePosix );
-                    if( nCharsStepTwo <= 0 )
-                    {
-                        eof = true;
-                    }
-                    else if( nCharsStepTwo < writePosix )
-                    {
-                        eof = true;
-                        writePosix = nCharsStepOne;
-                    }
-                    else
-                    {
-                        writePosix = nCharsStepOne + nCharsStepTwo;
-                    }
-                }
+                throw new UncheckedIOException( e );
+            }
+        }
+
+        @Override
+        public boolean tryAdvance( Consumer< ? super Row > action )
+        {
+            final Row row = readRow();
+            if( row == null ) return false;
+            action.accept( row );
+            return true;
+        }
+
+        @Override
+        public Spliterator< Row > trySplit()
+        {
+            final Row[] chunk = new Row[ chunkSize ];
+            int size = 0;
+            Row row;
+            while( size < chunkSize && ( row = readRow() ) != null )
+            {
+                chunk[ size++ ] = row;
             }
-            if( writePosix >= bufferSize ) writePosix = bufferSize;
+            return size == 0 ? null : Spliterators.spliterator( chunk, 0, size, characteristics() );
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
         }
     }
 
-    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    // Inner Classes And Patterns
-    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    static class Row
+    /**
+     * Delimiter bytes and the word patterns of their first bytes, resolved once per byte reader
+     */
+    private static final class ByteDelimiters
+    {
+        private final byte[] comment;
+        private final byte[] content;
+        private final byte[] row;
+        private final byte[] column;
+        private final int lookAhead;
+        private final byte contentFirst;
+        private final byte rowFirst;
+        private final byte columnFirst;
+        private final boolean search;
+        private final long contentPattern;
+        private final long rowPattern;
+        private final long columnPattern;
+
+        ByteDelimiters( CSVDelimiters delimiters )
+        {
+            this.comment = asciiBytes( delimiters.getComment() );
+            this.content = asciiBytes( delimiters.getContent() );
+            this.row = asciiBytes( delimiters.getRow() );
+            this.column = asciiBytes( delimiters.getColumn() );
+            this.lookAhead = Math.max( Math.max( comment.length, column.length ), Math.max( content.length, row.length ) );
+            this.contentFirst = content.length > 0 ? content[ 0 ] : 0;
+            this.rowFirst = row.length > 0 ? row[ 0 ] : 0;
+            this.columnFirst = column.length > 0 ? column[ 0 ] : 0;
+
+            // the first byte of every delimiter is searched a word at a time, absent delimiters repeat a present one
+            this.search = content.length > 0 || row.length > 0 || column.length > 0;
+            final byte anyFirst = row.length > 0 ? rowFirst : column.length > 0 ? columnFirst : contentFirst;
+            this.contentPattern = CSVByteSearch.broadcast( content.length > 0 ? contentFirst : anyFirst );
+            this.rowPattern = CSVByteSearch.broadcast( row.length > 0 ? rowFirst : anyFirst );
+            this.columnPattern = CSVByteSearch.broadcast( column.length > 0 ? columnFirst : anyFirst );
+        }
+
+        private static byte[] asciiBytes( String delimiter )
+        {
+            return delimiter == null ? new byte[ 0 ] : delimiter.getBytes( StandardCharsets.US_ASCII );
+        }
+    }
+
+    /**
+     * A scanned row, either decoded chars or the raw bytes of an ASCII compatible charset (decoded per field, only
+     * when a field becomes a String)
+     */
+    public static class Row
     {
         private final boolean isHeader;
-        private final String rowContent;
+        private final char[] chars;
+        private final byte[] bytes;
+        private final Charset charset;
+        private final int[] fieldBounds;
+        private final String contentDelimiter;
+        private String rowContent;
+        private char[] scratch;
+
+        Row( boolean isHeader, char[] chars, int[] fieldBounds, String contentDelimiter )
+        {
+            this.isHeader = isHeader;
+            this.chars = chars;
+            this.bytes = null;
+            this.charset = null;
+            this.fieldBounds = fieldBounds;
+            this.contentDelimiter = contentDelimiter;
+        }
 
-        Row( boolean isHeader, String rowContent )
+        Row( boolean isHeader, byte[] bytes, Charset charset, int[] fieldBounds, String contentDelimiter )
         {
             this.isHeader = isHeader;
-            this.rowContent = rowContent;
+            this.chars = null;
+            this.bytes = bytes;
+            this.charset = charset;
+            this.fieldBounds = fieldBounds;
+            this.contentDelimiter = contentDelimiter;
         }
 
         public boolean isHeader()
@@ -354,7 +804,136 @@ public class CSVBufferedReader implements Closeable, Iterable< String >
 
         public String getRowContent()
         {
+            if( rowContent == null ) rowContent = chars != null ? new String( chars ) : new String( bytes, charset );
             return rowContent;
         }
+
+        public int size()
+        {
+            return fieldBounds.length / 2;
+        }
+
+        /**
+         * Column content already desembraced, it is only materialized when asked for
+         */
+        public String getField( int index )
+        {
+            final int shift = embraceLength( index );
+            final int start = fieldBounds[ index * 2 ] + shift;
+            final int length = fieldBounds[ index * 2 + 1 ] - shift - start;
+            return chars != null ? new String( chars, start, length ) : new String( bytes, start, length, charset );
+        }
+
+        public int getInt( int index )
+        {
+            final int shift = embraceLength( index );
+            final int start = fieldBounds[ index * 2 ] + shift;
+            final int end = fieldBounds[ index * 2 + 1 ] - shift;
+            if( chars != null ) return CSVBaseAutoMapper.parseInt( chars, start, end );
+            final int length = widen( start, end );
+            return CSVBaseAutoMapper.parseInt( scratch, 0, length );
+        }
+
+        public long getLong( int index )
+        {
+            final int shift = embraceLength( index );
+            final int start = fieldBounds[ index * 2 ] + shift;
+            final int end = fieldBounds[ index * 2 + 1 ] - shift;
+            if( chars != null ) return CSVBaseAutoMapper.parseLong( chars, start, end );
+            final int length = widen( start, end );
+            return CSVBaseAutoMapper.parseLong( scratch, 0, length );
+        }
+
+        public double getDouble( int index )
+        {
+            final int shift = embraceLength( index );
+            final int start = fieldBounds[ index * 2 ] + shift;
+            final int end = fieldBounds[ index * 2 + 1 ] - shift;
+            if( chars != null ) return CSVBaseAutoMapper.parseDouble( chars, start, end );
+            final int length = widen( start, end );
+            return CSVBaseAutoMapper.parseDouble( scratch, 0, length );
+        }
+
+        public boolean getBoolean( int index )
+        {
+            final int shift = embraceLength( index );
+            final int start = fieldBounds[ index * 2 ] + shift;
+            final int end = fieldBounds[ index * 2 + 1 ] - shift;
+            if( chars != null ) return CSVBaseAutoMapper.parseBoolean( chars, start, end );
+            final int length = widen( start, end );
+            return CSVBaseAutoMapper.parseBoolean( scratch, 0, length );
+        }
+
+        /**
+         * Evaluates the filter on the desembraced column chars, without materializing it; missing columns never match
+         */
+        public boolean matches( int index, FilterField filter )
+        {
+            if( index >= size() ) return false;
+            final int shift = embraceLength( index );
+            final int start = fieldBounds[ index * 2 ] + shift;
+            final int end = fieldBounds[ index * 2 + 1 ] - shift;
+            if( chars != null ) return filter.accept( chars, start, end );
+            final int length = widen( start, end );
+            return filter.accept( scratch, 0, length );
+        }
+
+        /**
+         * Puts the chars of a byte slice on the scratch array and returns how many there are; ASCII (and Latin-1)
+         * is widened as is, anything else is decoded
+         */
+        private int widen( int start, int end )
+        {
+            final int length = end - start;
+            if( scratch == null || scratch.length < length ) scratch = new char[ Math.max( length, 32 ) ];
+            final boolean latin1 = StandardCharsets.ISO_8859_1.equals( charset );
+            for( int i = 0; i < length; i++ )
+            {
+                final byte b = bytes[ start + i ];
+                if( b < 0 && !latin1 )
+                {
+                    final String decoded = new String( bytes, start, length, charset );
+                    if( scratch.length < decoded.length() ) scratch = new char[ decoded.length() ];
+                    decoded.getChars( 0, decoded.length(), scratch, 0 );
+                    return decoded.length();
+                }
+                scratch[ i ] = (char)( b & 0xFF );
+            }
+            return length;
+        }
+
+        private char charAt( int posix )
+        {
+            return chars != null ? chars[ posix ] : (char)( bytes[ posix ] & 0xFF );
+        }
+
+        private boolean startsWith( int posix, int limit, String delimiter )
+        {
+            if( posix + delimiter.length() > limit ) return false;
+            for( int i = 0; i < delimiter.length(); i++ )
+            {
+                if( charAt( posix + i ) != delimiter.charAt( i ) ) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Length of the content delimiter embracing the column, or zero when it is not embraced
+         */
+        private int embraceLength( int index )
+        {
+            final int delimiterLength = lengthOf( contentDelimiter );
+            if( delimiterLength == 0 ) return 0;
+            final int start = fieldBounds[ index * 2 ];
+            final int end = fieldBounds[ index * 2 + 1 ];
+            int trimStart = start;
+            int trimEnd = end;
+            while( trimStart < trimEnd && charAt( trimStart ) <= ' ' ) trimStart++;
+            while( trimEnd > trimStart && charAt( trimEnd - 1 ) <= ' ' ) trimEnd--;
+            final boolean embraced = trimEnd - trimStart >= 2 * delimiterLength
+                    && startsWith( trimStart, trimEnd, contentDelimiter )
+                    && startsWith( trimEnd - delimiterLength, trimEnd, contentDelimiter );
+            return embraced ? delimiterLength : 0;
+        }
     }
 }
@@ -0,0 +1,92 @@
+package com.bquarkz.simplecsv;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Word at a time (SWAR) search for delimiter bytes: 8 bytes are read as a single long and tested against every
+ * delimiter at once, without a branch per byte
+ */
+final class CSVByteSearch
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private CSVByteSearch()
+    {
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Little endian view over the bytes, so the lowest set byte of a word is also the first one on the buffer
+     */
+    static ByteBuffer wordsOf( byte[] bytes )
+    {
+        return ByteBuffer.wrap( bytes ).order( ByteOrder.LITTLE_ENDIAN );
+    }
+
+    /**
+     * The byte repeated on every byte of a long, the pattern {@link #indexOfAny} looks for
+     */
+    static long broadcast( byte b )
+    {
+        return ( b & 0xFFL ) * ONES;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * First position in [from, to) holding any of the broadcast bytes, -1 when there is none; the same pattern may
+     * be passed more than once to look for fewer bytes
+     */
+    static int indexOfAny( ByteBuffer words, int from, int to, long first, long second, long third )
+    {
+        int posix = from;
+        for( ; posix + Long.BYTES <= to; posix += Long.BYTES )
+        {
+            final long word = words.getLong( posix );
+            final long found = zeroBytes( word ^ first ) | zeroBytes( word ^ second ) | zeroBytes( word ^ third );
+            if( found != 0 ) return posix + ( Long.numberOfTrailingZeros( found ) >>> 3 );
+        }
+
+        final byte[] bytes = words.array();
+        for( ; posix < to; posix++ )
+        {
+            final byte b = bytes[ posix ];
+            if( b == (byte)first || b == (byte)second || b == (byte)third ) return posix;
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the high bit of every zero byte; bytes above the first zero may be flagged as well (borrow), the lowest
+     * flag is always exact
+     */
+    private static long zeroBytes( long word )
+    {
+        return ( word - ONES ) & ~word & HIGHS;
+    }
+}
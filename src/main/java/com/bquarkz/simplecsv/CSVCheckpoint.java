@@ -0,0 +1,172 @@
+package com.bquarkz.simplecsv;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Where a reader stands on its file: the byte offset of the next row, how many rows after the header were already
+ * read and whether the header was passed; a new reader resumes from it without scanning the rows before (see
+ * {@link CSVImporter#fromFile(String, CSVCheckpoint)}), and its token is meant to be stored by long running loads.
+ * The length and last modification time of the file are kept as well, a file changed since is refused
+ */
+public final class CSVCheckpoint implements Serializable
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final long serialVersionUID = 1L;
+    private static final String TOKEN_PREFIX = "csv-checkpoint:1:";
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final long position;
+    private final long rowNumber;
+    private final boolean headerPassed;
+    private final long fileLength;
+    private final long lastModified;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    CSVCheckpoint( long position, long rowNumber, boolean headerPassed, long fileLength, long lastModified )
+    {
+        if( position < 0 || rowNumber < 0 || fileLength < 0 )
+        {
+            throw new IllegalArgumentException( "checkpoint should not be negative" );
+        }
+        if( position > fileLength ) throw new IllegalArgumentException( "checkpoint should not be past the end of the file" );
+        if( !headerPassed && ( position > 0 || rowNumber > 0 ) )
+        {
+            throw new IllegalArgumentException( "checkpoint past the beginning of the file should be past the header" );
+        }
+
+        this.position = position;
+        this.rowNumber = rowNumber;
+        this.headerPassed = headerPassed;
+        this.fileLength = fileLength;
+        this.lastModified = lastModified;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Parses a token written by {@link #toToken()}
+     */
+    public static CSVCheckpoint fromToken( String token )
+    {
+        if( token == null || !token.startsWith( TOKEN_PREFIX ) )
+        {
+            throw new IllegalArgumentException( "not a checkpoint token: " + token );
+        }
+
+        final String[] parts = token.substring( TOKEN_PREFIX.length() ).split( ":" );
+        if( parts.length != 5 ) throw new IllegalArgumentException( "not a checkpoint token: " + token );
+        try
+        {
+            return new CSVCheckpoint(
+                    Long.parseLong( parts[ 0 ] ),
+                    Long.parseLong( parts[ 1 ] ),
+                    "1".equals( parts[ 2 ] ),
+                    Long.parseLong( parts[ 3 ] ),
+                    Long.parseLong( parts[ 4 ] ) );
+        }
+        catch( NumberFormatException e )
+        {
+            throw new IllegalArgumentException( "not a checkpoint token: " + token, e );
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Byte offset on the file where the next row starts
+     */
+    public long getPosition()
+    {
+        return position;
+    }
+
+    /**
+     * Rows after the header already read, the row a resumed reader starts from
+     */
+    public long getRowNumber()
+    {
+        return rowNumber;
+    }
+
+    public boolean isHeaderPassed()
+    {
+        return headerPassed;
+    }
+
+    /**
+     * Length of the file when the checkpoint was taken
+     */
+    public long getFileLength()
+    {
+        return fileLength;
+    }
+
+    /**
+     * Last modification time of the file when the checkpoint was taken
+     */
+    public long getLastModified()
+    {
+        return lastModified;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Checked before resuming, the offset means nothing on a file rewritten or appended to since
+     */
+    void shouldBeOf( File file )
+    {
+        if( file.length() != fileLength || file.lastModified() != lastModified )
+        {
+            throw new IllegalArgumentException( "checkpoint was taken on another version of the file: " + file );
+        }
+    }
+
+    public String toToken()
+    {
+        return TOKEN_PREFIX + position + ":" + rowNumber + ":" + ( headerPassed ? "1" : "0" ) + ":" + fileLength + ":" + lastModified;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if( this == o ) return true;
+        if( !( o instanceof CSVCheckpoint ) ) return false;
+
+        final CSVCheckpoint that = (CSVCheckpoint)o;
+        return position == that.position
+                && rowNumber == that.rowNumber
+                && headerPassed == that.headerPassed
+                && fileLength == that.fileLength
+                && lastModified == that.lastModified;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( position, rowNumber, headerPassed, fileLength, lastModified );
+    }
+
+    @Override
+    public String toString()
+    {
+        return toToken();
+    }
+}
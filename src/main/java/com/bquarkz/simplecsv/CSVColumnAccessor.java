@@ -0,0 +1,354 @@
+package com.bquarkz.simplecsv;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class CSVColumnAccessor
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+    private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
+    private static final ClassValue< CSVColumnAccessor[] > PLANS = new ClassValue< CSVColumnAccessor[] >()
+    {
+        @Override
+        protected CSVColumnAccessor[] computeValue( Class< ? > classBean )
+        {
+            return compile( classBean );
+        }
+    };
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final String name;
+    private final Class< ? > type;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveSetter;
+    private final MethodHandle primitiveGetter;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private CSVColumnAccessor( Field field ) throws IllegalAccessException
+    {
+        field.setAccessible( true );
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.name = columnNameMapper( field );
+        this.type = field.getType();
+        this.getter = lookup.unreflectGetter( field ).asType( GETTER_TYPE );
+        if( Modifier.isFinal( field.getModifiers() ) )
+        {
+            this.setter = null;
+            this.primitiveSetter = null;
+        }
+        else
+        {
+            this.setter = lookup.unreflectSetter( field ).asType( SETTER_TYPE );
+            this.primitiveSetter = isFastPrimitive( type )
+                    ? lookup.unreflectSetter( field ).asType( MethodType.methodType( void.class, Object.class, type ) )
+                    : null;
+        }
+        this.primitiveGetter = isFastPrimitive( type )
+                ? lookup.unreflectGetter( field ).asType( MethodType.methodType( type, Object.class ) )
+                : null;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Accessors for every {@link CSVColumn} of the bean, in column order, compiled once per bean class
+     */
+    static CSVColumnAccessor[] of( Class< ? > classBean )
+    {
+        return PLANS.get( classBean );
+    }
+
+    /**
+     * Final columns are kept, read only, when the bean has a constructor taking every column by position (the only
+     * way they can be set), otherwise they are left out as any other field the importer can't write
+     */
+    private static CSVColumnAccessor[] compile( Class< ? > classBean )
+    {
+        final List< Field > columns = Stream
+                .of( classBean.getDeclaredFields() )
+                .filter( f -> !Modifier.isStatic( f.getModifiers() ) )
+                .filter( f -> f.isAnnotationPresent( CSVColumn.class ) )
+                .sorted( Comparator.comparingInt( f -> f.getAnnotation( CSVColumn.class ).column() ) )
+                .collect( Collectors.toList() );
+        final boolean keepingFinals = hasPositionalConstructor( classBean, columns );
+        return columns
+                .stream()
+                .filter( f -> keepingFinals || !Modifier.isFinal( f.getModifiers() ) )
+                .map( f -> {
+                    try
+                    {
+                        return new CSVColumnAccessor( f );
+                    }
+                    catch( IllegalAccessException | SecurityException e )
+                    {
+                        throw new ExceptionCSVBeanConfiguration( "bean configuration problem for [ " + f.getName() + " ]", e );
+                    }
+                } )
+                .toArray( CSVColumnAccessor[]::new );
+    }
+
+    private static boolean hasPositionalConstructor( Class< ? > classBean, List< Field > columns )
+    {
+        final Class< ? >[] types = columns.stream().map( Field::getType ).toArray( Class< ? >[]::new );
+        return Stream
+                .of( classBean.getDeclaredConstructors() )
+                .anyMatch( c -> Arrays.equals( c.getParameterTypes(), types ) );
+    }
+
+    private static boolean isFastPrimitive( Class< ? > type )
+    {
+        return type == int.class || type == long.class || type == double.class || type == boolean.class;
+    }
+
+    private static String columnNameMapper( Field field )
+    {
+        final String name = field.getAnnotation( CSVColumn.class ).name();
+        if( name.trim().isEmpty() )
+        {
+            return field.getName();
+        }
+        else
+        {
+            return name;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    String getName()
+    {
+        return name;
+    }
+
+    Class< ? > getType()
+    {
+        return type;
+    }
+
+    /**
+     * Final columns are only set through the positional constructor
+     */
+    boolean isReadOnly()
+    {
+        return setter == null;
+    }
+
+    /**
+     * int, long, double and boolean columns can be read straight from the row, without boxing
+     */
+    boolean isPrimitiveColumn()
+    {
+        return primitiveGetter != null;
+    }
+
+    /**
+     * int, long, double and boolean columns can be written through the typed setters, without boxing
+     */
+    boolean hasPrimitiveSetter()
+    {
+        return primitiveSetter != null;
+    }
+
+    /**
+     * int, long, double and boolean columns can be read through the typed getters, without boxing
+     */
+    boolean hasPrimitiveGetter()
+    {
+        return primitiveGetter != null;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    Object get( Object bean )
+    {
+        try
+        {
+            return (Object)getter.invokeExact( bean );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to read [ " + name + " ]", t );
+        }
+    }
+
+    int getInt( Object bean )
+    {
+        try
+        {
+            return (int)primitiveGetter.invokeExact( bean );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to read [ " + name + " ]", t );
+        }
+    }
+
+    long getLong( Object bean )
+    {
+        try
+        {
+            return (long)primitiveGetter.invokeExact( bean );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to read [ " + name + " ]", t );
+        }
+    }
+
+    double getDouble( Object bean )
+    {
+        try
+        {
+            return (double)primitiveGetter.invokeExact( bean );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to read [ " + name + " ]", t );
+        }
+    }
+
+    boolean getBoolean( Object bean )
+    {
+        try
+        {
+            return (boolean)primitiveGetter.invokeExact( bean );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to read [ " + name + " ]", t );
+        }
+    }
+
+    void set( Object bean, Object value )
+    {
+        if( setter == null )
+        {
+            throw new ExceptionCSVBeanConfiguration( "final column [ " + name + " ] can only be set by constructor" );
+        }
+        try
+        {
+            setter.invokeExact( bean, value );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to write [ " + name + " ]", t );
+        }
+    }
+
+    void setInt( Object bean, int value )
+    {
+        try
+        {
+            primitiveSetter.invokeExact( bean, value );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to write [ " + name + " ]", t );
+        }
+    }
+
+    void setLong( Object bean, long value )
+    {
+        try
+        {
+            primitiveSetter.invokeExact( bean, value );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to write [ " + name + " ]", t );
+        }
+    }
+
+    void setDouble( Object bean, double value )
+    {
+        try
+        {
+            primitiveSetter.invokeExact( bean, value );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to write [ " + name + " ]", t );
+        }
+    }
+
+    void setBoolean( Object bean, boolean value )
+    {
+        try
+        {
+            primitiveSetter.invokeExact( bean, value );
+        }
+        catch( RuntimeException | Error e )
+        {
+            throw e;
+        }
+        catch( Throwable t )
+        {
+            throw new ExceptionCSVMapping( "problems to write [ " + name + " ]", t );
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Inner Classes And Patterns
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+}
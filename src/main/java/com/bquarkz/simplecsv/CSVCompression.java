@@ -0,0 +1,198 @@
+package com.bquarkz.simplecsv;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+
+/**
+ * Compression formats recognised on sources (by magic bytes) and on file names (by extension); gzip is handled
+ * with the JDK alone, zstd and lz4 sources are told apart only to be refused with a clear message
+ */
+enum CSVCompression
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    NONE( new byte[ 0 ] ),
+    GZIP( new byte[]{ 0x1f, (byte)0x8b }, ".gz", ".gzip" ),
+    ZSTD( new byte[]{ 0x28, (byte)0xb5, 0x2f, (byte)0xfd }, ".zst", ".zstd" ),
+    LZ4( new byte[]{ 0x04, 0x22, 0x4d, 0x18 }, ".lz4" );
+
+    static final int MAGIC_LENGTH = 4;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final byte[] magic;
+    private final String[] extensions;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    CSVCompression( byte[] magic, String... extensions )
+    {
+        this.magic = magic;
+        this.extensions = extensions;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static CSVCompression byExtension( String filename )
+    {
+        final String name = filename.toLowerCase( Locale.ROOT );
+        for( CSVCompression compression : values() )
+        {
+            for( String extension : compression.extensions )
+            {
+                if( name.endsWith( extension ) ) return compression;
+            }
+        }
+        return NONE;
+    }
+
+    static CSVCompression byMagic( byte[] head, int length )
+    {
+        for( CSVCompression compression : values() )
+        {
+            if( compression.magic.length == 0 || compression.magic.length > length ) continue;
+
+            boolean matches = true;
+            for( int i = 0; i < compression.magic.length && matches; i++ )
+            {
+                matches = head[ i ] == compression.magic[ i ];
+            }
+            if( matches ) return compression;
+        }
+        return NONE;
+    }
+
+    /**
+     * By extension first, by the first bytes of the file otherwise
+     */
+    static CSVCompression ofFile( File file ) throws IOException
+    {
+        final CSVCompression byExtension = byExtension( file.getName() );
+        if( byExtension != NONE ) return byExtension;
+
+        try( final InputStream input = new FileInputStream( file ) )
+        {
+            final byte[] head = new byte[ MAGIC_LENGTH ];
+            return byMagic( head, readFully( input, head ) );
+        }
+    }
+
+    /**
+     * Source that looks at its first bytes on the first read and decompresses from there on when they are the
+     * magic of a known format, plain sources are read through untouched
+     */
+    static InputStream sniffing( InputStream source, int readAheadBuffers )
+    {
+        return new Sniffing( source, readAheadBuffers );
+    }
+
+    /**
+     * Reads until the bytes are full or the source ends, returns how many were read
+     */
+    static int readFully( InputStream input, byte[] bytes ) throws IOException
+    {
+        int length = 0;
+        int read;
+        while( length < bytes.length && ( read = input.read( bytes, length, bytes.length - length ) ) >= 0 )
+        {
+            length += read;
+        }
+        return length;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    InputStream decompressing( InputStream source, int readAheadBuffers ) throws IOException
+    {
+        switch( this )
+        {
+            case NONE: return source;
+            case GZIP: return CSVGzipInputStream.open( source, readAheadBuffers );
+            default: throw new IOException( name().toLowerCase( Locale.ROOT ) + " compressed sources are not supported" );
+        }
+    }
+
+    /**
+     * Only gzip is ever written, any other file name keeps being written plain
+     */
+    static CSVCompression ofOutput( String filename )
+    {
+        return byExtension( filename ) == GZIP ? GZIP : NONE;
+    }
+
+    OutputStream compressing( OutputStream sink )
+    {
+        return this == GZIP ? new CSVGzipOutputStream( sink ) : sink;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Inner Classes And Patterns
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final class Sniffing extends InputStream
+    {
+        private final PushbackInputStream source;
+        private final int readAheadBuffers;
+        private InputStream delegate;
+
+        Sniffing( InputStream source, int readAheadBuffers )
+        {
+            this.source = new PushbackInputStream( source, MAGIC_LENGTH );
+            this.readAheadBuffers = readAheadBuffers;
+        }
+
+        private InputStream delegate() throws IOException
+        {
+            if( delegate == null )
+            {
+                final byte[] head = new byte[ MAGIC_LENGTH ];
+                final int length = readFully( source, head );
+                source.unread( head, 0, length );
+                delegate = byMagic( head, length ).decompressing( source, readAheadBuffers );
+            }
+            return delegate;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            return delegate().read();
+        }
+
+        @Override
+        public int read( byte[] bytes, int offset, int length ) throws IOException
+        {
+            return delegate().read( bytes, offset, length );
+        }
+
+        @Override
+        public int available() throws IOException
+        {
+            return delegate == null ? 0 : delegate.available();
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            if( delegate != null ) delegate.close();
+            source.close();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.bquarkz.simplecsv;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Encodes chars into a single reusable byte buffer and hands it to the output stream only when it is full or
+ * flushed, so the stream sees few, big writes
+ */
+class CSVEncodingWriter extends Writer
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final int MIN_CAPACITY = 16; // room for the longest encoded char
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final OutputStream outputStream;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes;
+    private final char[] surrogatePair;
+
+    private boolean hasHighSurrogate;
+    private long bytesSinceFlush;
+    private boolean closed;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    CSVEncodingWriter( OutputStream outputStream, Charset charset, int capacity )
+    {
+        this.outputStream = outputStream;
+        this.encoder = charset
+                .newEncoder()
+                .onMalformedInput( CodingErrorAction.REPLACE )
+                .onUnmappableCharacter( CodingErrorAction.REPLACE );
+        this.bytes = ByteBuffer.allocate( Math.max( capacity, MIN_CAPACITY ) );
+        this.surrogatePair = new char[ 2 ];
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Bytes encoded since the last flush, either still buffered or already handed to the output stream
+     */
+    long getBytesSinceFlush()
+    {
+        return bytesSinceFlush + bytes.position();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private void shouldStillOpen() throws IOException
+    {
+        if( closed ) throw new IOException( "Stream closed" );
+    }
+
+    @Override
+    public void write( char[] chars, int offset, int length ) throws IOException
+    {
+        shouldStillOpen();
+        if( length == 0 ) return;
+
+        if( hasHighSurrogate )
+        {
+            // a pair split by the previous write is encoded as a whole
+            hasHighSurrogate = false;
+            surrogatePair[ 1 ] = chars[ offset ];
+            encode( CharBuffer.wrap( surrogatePair, 0, 2 ) );
+            offset++;
+            length--;
+        }
+        encode( CharBuffer.wrap( chars, offset, length ) );
+    }
+
+    private void encode( CharBuffer chars ) throws IOException
+    {
+        while( true )
+        {
+            final CoderResult result = encoder.encode( chars, bytes, false );
+            if( result.isOverflow() )
+            {
+                drain();
+            }
+            else if( result.isUnderflow() )
+            {
+                if( chars.hasRemaining() )
+                {
+                    hasHighSurrogate = true;
+                    surrogatePair[ 0 ] = chars.get();
+                }
+                return;
+            }
+            else
+            {
+                result.throwException();
+            }
+        }
+    }
+
+    /**
+     * Writes already encoded bytes, after whatever is still buffered
+     */
+    void writeEncoded( ByteArrayOutputStream encoded ) throws IOException
+    {
+        shouldStillOpen();
+        drain();
+        encoded.writeTo( outputStream );
+        bytesSinceFlush += encoded.size();
+    }
+
+    private void drain() throws IOException
+    {
+        if( bytes.position() == 0 ) return;
+        outputStream.write( bytes.array(), bytes.arrayOffset(), bytes.position() );
+        bytesSinceFlush += bytes.position();
+        bytes.clear();
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        shouldStillOpen();
+        drain();
+        outputStream.flush();
+        bytesSinceFlush = 0;
+    }
+
+    /**
+     * Ends the encoding, flushes everything and closes the output stream, as {@link java.io.OutputStreamWriter} does
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if( closed ) return;
+        try
+        {
+            final CharBuffer rest = hasHighSurrogate ? CharBuffer.wrap( surrogatePair, 0, 1 ) : CharBuffer.allocate( 0 );
+            hasHighSurrogate = false;
+            while( encoder.encode( rest, bytes, true ).isOverflow() )
+            {
+                drain();
+            }
+            while( encoder.flush( bytes ).isOverflow() )
+            {
+                drain();
+            }
+            flush();
+        }
+        finally
+        {
+            closed = true;
+            outputStream.close();
+        }
+    }
+}
@@ -1,9 +1,25 @@
 package com.bquarkz.simplecsv;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 public class CSVExporter< BEAN >
 {
@@ -71,9 +87,10 @@ public class CSVExporter< BEAN >
     public final class CSVWriter implements Closeable, AutoCloseable
     {
         private final OutputStream outputStream;
-        private final Writer outputWriter;
-        private final BufferedWriter bufferedWriter;
+        private final CSVEncodingWriter outputWriter;
+        private final CSVAppender appender;
         private final boolean shouldCloseOutputStream;
+        private int rowsSinceFlush;
 
         CSVWriter( OutputStream outputStream )
         {
@@ -83,8 +100,8 @@ public class CSVExporter< BEAN >
             }
             this.shouldCloseOutputStream = false;
             this.outputStream = outputStream;
-            this.outputWriter = new OutputStreamWriter( outputStream, builder.getCharset() );
-            this.bufferedWriter = new BufferedWriter( outputWriter );
+            this.outputWriter = new CSVEncodingWriter( outputStream, builder.getCharset(), builder.getBufferSize() );
+            this.appender = new CSVAppender( outputWriter, builder.getBufferSize() );
         }
 
         CSVWriter( String outputFilename ) throws FileNotFoundException
@@ -94,10 +111,13 @@ public class CSVExporter< BEAN >
                 throw new IllegalArgumentException( "output filename should not be empty" );
             }
 
+            final CSVCompression compression = builder.shouldCompressByExtension()
+                    ? CSVCompression.ofOutput( outputFilename )
+                    : CSVCompression.NONE;
             this.shouldCloseOutputStream = true;
-            this.outputStream = new FileOutputStream( outputFilename );
-            this.outputWriter = new OutputStreamWriter( outputStream, builder.getCharset() );
-            this.bufferedWriter = new BufferedWriter( outputWriter );
+            this.outputStream = compression.compressing( new FileOutputStream( outputFilename ) );
+            this.outputWriter = new CSVEncodingWriter( outputStream, builder.getCharset(), builder.getBufferSize() );
+            this.appender = new CSVAppender( outputWriter, builder.getBufferSize() );
         }
 
         private CSVWriter writeHeaders() throws IOException
@@ -113,8 +133,8 @@ public class CSVExporter< BEAN >
 
         private void writeLine( String line ) throws IOException
         {
-            this.bufferedWriter.write( line );
-            this.bufferedWriter.write( builder.getDelimiters().getRow() );
+            appender.append( line ).append( builder.getDelimiters().getRow() );
+            appender.endRow();
         }
 
         public void writeFrom(
@@ -123,6 +143,13 @@ public class CSVExporter< BEAN >
         {
             try
             {
+                if( builder.getFetchSize() > 0 ) rs.setFetchSize( builder.getFetchSize() );
+                if( builder.shouldPipelineResultSets() )
+                {
+                    writeFromInPipeline( rs, factory );
+                    return;
+                }
+
                 while( rs.next() )
                 {
                     final BEAN bean = factory.from( rs );
@@ -135,17 +162,117 @@ public class CSVExporter< BEAN >
             }
         }
 
+        /**
+         * Writes every row of the result set straight to CSV, no bean is built: the result set columns are taken by
+         * position following the {@link CSVColumn} order, and read through the typed getters of the field types
+         */
+        public void writeFrom( final ResultSet rs ) throws IOException
+        {
+            final CSVParser< BEAN > csvParser = builder.getCsvParser();
+            final CSVDelimiters delimiters = builder.getDelimiters();
+            final MapperCSV[] mappers = builder.getMappers();
+            try
+            {
+                if( builder.getFetchSize() > 0 ) rs.setFetchSize( builder.getFetchSize() );
+                final int nColumns = csvParser.getCSVHeaders().length;
+                if( rs.getMetaData().getColumnCount() < nColumns )
+                {
+                    throw new ExceptionCSVWriter( "result set should have at least " + nColumns + " columns" );
+                }
+
+                while( rs.next() )
+                {
+                    try
+                    {
+                        csvParser.appendCSV( rs, delimiters, mappers, appender );
+                        appender.append( delimiters.getRow() );
+                        appender.endRow();
+                        rowsWritten( 1 );
+                    }
+                    catch( ExceptionCSVMapping e )
+                    {
+                        appender.discardRow();
+                        if( builder.shouldNotIgnoreErrors() )
+                        {
+                            throw e;
+                        }
+                    }
+                }
+            }
+            catch( SQLException e )
+            {
+                appender.discardRow();
+                throw new ExceptionCSVWriter( e );
+            }
+        }
+
+        /**
+         * This thread drains the cursor into chunks of beans, a writer thread takes them from a bounded queue and
+         * writes them (in parallel as well, when configured), a full queue holds the cursor back
+         */
+        private void writeFromInPipeline(
+                final ResultSet rs,
+                final ResultSetBeanFactory< BEAN > factory ) throws IOException, SQLException
+        {
+            final int chunkSize = builder.getChunkSize();
+            final Pipeline pipeline = new Pipeline( builder.getPipelineCapacity() );
+            try
+            {
+                List< BEAN > chunk = new ArrayList<>( chunkSize );
+                while( rs.next() )
+                {
+                    chunk.add( factory.from( rs ) );
+                    if( chunk.size() == chunkSize )
+                    {
+                        pipeline.put( chunk );
+                        chunk = new ArrayList<>( chunkSize );
+                    }
+                }
+                if( !chunk.isEmpty() ) pipeline.put( chunk );
+                pipeline.finish();
+            }
+            catch( SQLException | RuntimeException e )
+            {
+                pipeline.cancel();
+                throw e;
+            }
+        }
+
         public void write( BEAN bean ) throws IOException
+        {
+            appendRow( bean, appender );
+            rowsWritten( 1 );
+        }
+
+        /**
+         * Applies the flush policy of the builder, called once complete rows were written
+         */
+        private void rowsWritten( int rows ) throws IOException
+        {
+            rowsSinceFlush += rows;
+            final int everyRows = builder.getFlushingEveryRows();
+            final long everyBytes = builder.getFlushingEveryBytes();
+            if( ( everyRows > 0 && rowsSinceFlush >= everyRows )
+                    || ( everyBytes > 0 && outputWriter.getBytesSinceFlush() + appender.getPendingChars() >= everyBytes ) )
+            {
+                appender.flush();
+                rowsSinceFlush = 0;
+            }
+        }
+
+        private void appendRow( BEAN bean, CSVAppender appender ) throws IOException
         {
             final CSVParser< BEAN > csvParser = builder.getCsvParser();
             final CSVDelimiters delimiters = builder.getDelimiters();
             try
             {
-                final String csv = csvParser.toCSV( bean, delimiters, builder.getMappings() );
-                writeLine( csv );
+                csvParser.appendCSV( bean, delimiters, builder.getMappers(), appender );
+                appender.append( delimiters.getRow() );
+                appender.endRow();
             }
             catch( ExceptionCSVMapping e )
             {
+                appender.discardRow();
                 if( builder.shouldNotIgnoreErrors() )
                 {
                     throw e;
@@ -155,22 +282,261 @@ public class CSVExporter< BEAN >
 
         public void write( List< BEAN > beans ) throws IOException
         {
-            for( BEAN bean : beans )
+            write( beans.iterator() );
+        }
+
+        public void write( Stream< BEAN > beans ) throws IOException
+        {
+            write( beans.iterator() );
+        }
+
+        private void write( Iterator< BEAN > beans ) throws IOException
+        {
+            if( builder.shouldWriteInParallel() && !writesByteOrderMark( builder.getCharset() ) )
+            {
+                writeInParallel( beans );
+                return;
+            }
+
+            while( beans.hasNext() )
+            {
+                write( beans.next() );
+            }
+        }
+
+        /**
+         * Chunks are formatted and encoded on the common pool while this thread, the sequencer, writes the finished
+         * ones in submission order, at most a couple of chunks per worker are kept in memory; the encoders of the
+         * written chunks are handed back to encode the next ones
+         */
+        private void writeInParallel( Iterator< BEAN > beans ) throws IOException
+        {
+            appender.flush(); // whatever was written before should reach the output stream first
+
+            final int chunkSize = builder.getChunkSize();
+            final int window = Math.max( 2, ForkJoinPool.getCommonPoolParallelism() * 2 );
+            final Deque< CompletableFuture< ChunkEncoder > > pending = new ArrayDeque<>( window );
+            final Queue< ChunkEncoder > encoders = new ConcurrentLinkedQueue<>();
+            while( beans.hasNext() )
             {
-                write( bean );
+                final List< BEAN > chunk = new ArrayList<>( chunkSize );
+                while( chunk.size() < chunkSize && beans.hasNext() )
+                {
+                    chunk.add( beans.next() );
+                }
+                pending.addLast( CompletableFuture.supplyAsync( () -> encode( chunk, encoders ) ) );
+                if( pending.size() >= window )
+                {
+                    writeChunk( pending.removeFirst(), encoders );
+                }
+            }
+
+            while( !pending.isEmpty() )
+            {
+                writeChunk( pending.removeFirst(), encoders );
             }
         }
 
+        private ChunkEncoder encode( List< BEAN > chunk, Queue< ChunkEncoder > encoders )
+        {
+            final ChunkEncoder reused = encoders.poll();
+            final ChunkEncoder encoder = reused == null
+                    ? new ChunkEncoder( builder.getCharset(), builder.getBufferSize() )
+                    : reused;
+            encoder.bytes.reset();
+            try
+            {
+                for( BEAN bean : chunk )
+                {
+                    appendRow( bean, encoder.appender );
+                }
+                encoder.appender.flush();
+            }
+            catch( IOException e )
+            {
+                throw new UncheckedIOException( e );
+            }
+            encoder.rows = chunk.size();
+            return encoder;
+        }
+
+        private void writeChunk( CompletableFuture< ChunkEncoder > future, Queue< ChunkEncoder > encoders ) throws IOException
+        {
+            try
+            {
+                final ChunkEncoder chunk = future.join();
+                outputWriter.writeEncoded( chunk.bytes );
+                rowsWritten( chunk.rows );
+                encoders.offer( chunk );
+            }
+            catch( CompletionException e )
+            {
+                if( e.getCause() instanceof UncheckedIOException ) throw ( (UncheckedIOException)e.getCause() ).getCause();
+                if( e.getCause() instanceof RuntimeException ) throw (RuntimeException)e.getCause();
+                throw e;
+            }
+        }
+
+        /**
+         * Bounded hand over between the cursor and the writer thread, the writer side is seen as an iterator so
+         * it goes through the same write path as lists and streams
+         */
+        private final class Pipeline implements Iterator< BEAN >
+        {
+            private final List< BEAN > endOfPipeline = Collections.emptyList();
+            private final BlockingQueue< List< BEAN > > queue;
+            private final Thread writer;
+
+            private volatile Throwable failure;
+            private Iterator< BEAN > current = Collections.emptyIterator();
+            private boolean finished;
+
+            Pipeline( int capacity )
+            {
+                this.queue = new ArrayBlockingQueue<>( capacity );
+                this.writer = new Thread( this::writeAll, "simple-csv-pipeline" );
+                this.writer.setDaemon( true );
+                this.writer.start();
+            }
+
+            private void writeAll()
+            {
+                try
+                {
+                    write( this );
+                }
+                catch( Throwable t )
+                {
+                    failure = t;
+                }
+            }
+
+            void put( List< BEAN > chunk ) throws IOException
+            {
+                try
+                {
+                    while( !queue.offer( chunk, 100, TimeUnit.MILLISECONDS ) )
+                    {
+                        if( !writer.isAlive() ) break;
+                    }
+                }
+                catch( InterruptedException e )
+                {
+                    cancel();
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException( "interrupted while writing from result set" );
+                }
+                rethrowFailure();
+            }
+
+            void finish() throws IOException
+            {
+                put( endOfPipeline );
+                try
+                {
+                    writer.join();
+                }
+                catch( InterruptedException e )
+                {
+                    cancel();
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException( "interrupted while writing from result set" );
+                }
+                rethrowFailure();
+            }
+
+            /**
+             * Stops the writer thread and waits for it, so nothing touches the output once the failure is rethrown
+             * (and the caller closes the writer); an interrupt while waiting is kept for the caller
+             */
+            void cancel()
+            {
+                writer.interrupt();
+                boolean interrupted = false;
+                while( writer.isAlive() )
+                {
+                    try
+                    {
+                        writer.join();
+                    }
+                    catch( InterruptedException e )
+                    {
+                        interrupted = true;
+                    }
+                }
+                if( interrupted ) Thread.currentThread().interrupt();
+            }
+
+            private void rethrowFailure() throws IOException
+            {
+                final Throwable t = failure;
+                if( t == null ) return;
+                if( t instanceof IOException ) throw (IOException)t;
+                if( t instanceof RuntimeException ) throw (RuntimeException)t;
+                if( t instanceof Error ) throw (Error)t;
+                throw new ExceptionCSVWriter( t );
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                while( !current.hasNext() && !finished )
+                {
+                    try
+                    {
+                        final List< BEAN > chunk = queue.take();
+                        if( chunk == endOfPipeline )
+                        {
+                            finished = true;
+                        }
+                        else
+                        {
+                            current = chunk.iterator();
+                        }
+                    }
+                    catch( InterruptedException e )
+                    {
+                        throw new ExceptionCSVWriter( e );
+                    }
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public BEAN next()
+            {
+                if( !hasNext() ) throw new NoSuchElementException();
+                return current.next();
+            }
+        }
+
+        private boolean writesByteOrderMark( Charset charset )
+        {
+            return "a".getBytes( charset ).length * 2 != "aa".getBytes( charset ).length;
+        }
+
         @Override
         public void close() throws IOException
         {
-            bufferedWriter.flush();
-            outputWriter.flush();
-            outputWriter.flush();
-
-            bufferedWriter.close();
+            appender.flush();
             outputWriter.close();
             if( shouldCloseOutputStream ) outputStream.close();
         }
     }
+
+    /**
+     * Buffer, encoding writer and appender a worker formats a chunk with, reused once its bytes were written
+     */
+    private static final class ChunkEncoder
+    {
+        private final ByteArrayOutputStream bytes;
+        private final CSVAppender appender;
+        private int rows;
+
+        ChunkEncoder( Charset charset, int bufferSize )
+        {
+            this.bytes = new ByteArrayOutputStream( bufferSize );
+            this.appender = new CSVAppender( new CSVEncodingWriter( bytes, charset, bufferSize ), bufferSize );
+        }
+    }
 }
@@ -10,6 +10,9 @@ public class CSVExporterBuilder< BEAN >
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constants
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final Integer DEFAULT_CHUNK_SIZE = 1024;
+    private static final Integer DEFAULT_PIPELINE_CAPACITY = 8;
+    private static final Integer DEFAULT_BUFFER_SIZE = 8192;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Special Fields And Injections
@@ -25,6 +28,16 @@ public class CSVExporterBuilder< BEAN >
     private Charset charset;
     private boolean ignoringErrors;
     private MappingCSV[] mappings;
+    private MapperCSV[] mappers;
+    private boolean writingInParallel;
+    private int chunkSize;
+    private boolean pipeliningResultSets;
+    private int pipelineCapacity;
+    private int fetchSize;
+    private int bufferSize;
+    private int flushingEveryRows;
+    private long flushingEveryBytes;
+    private boolean compressingByExtension;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constructors
@@ -34,6 +47,15 @@ public class CSVExporterBuilder< BEAN >
         this.csvParser = csvParser;
         this.delimiters = new CSVDelimiters();
         this.ignoringErrors = true;
+        this.writingInParallel = false;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.pipeliningResultSets = false;
+        this.pipelineCapacity = DEFAULT_PIPELINE_CAPACITY;
+        this.fetchSize = 0;
+        this.bufferSize = DEFAULT_BUFFER_SIZE;
+        this.flushingEveryRows = 0;
+        this.flushingEveryBytes = 0;
+        this.compressingByExtension = true;
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -68,11 +90,55 @@ public class CSVExporterBuilder< BEAN >
         return !ignoringErrors;
     }
 
-    MappingCSV[] getMappings()
+    MapperCSV[] getMappers()
     {
-        return mappings;
+        return mappers;
     }
 
+    boolean shouldWriteInParallel()
+    {
+        return writingInParallel;
+    }
+
+    int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    boolean shouldPipelineResultSets()
+    {
+        return pipeliningResultSets;
+    }
+
+    int getPipelineCapacity()
+    {
+        return pipelineCapacity;
+    }
+
+    int getFetchSize()
+    {
+        return fetchSize;
+    }
+
+    int getBufferSize()
+    {
+        return bufferSize;
+    }
+
+    int getFlushingEveryRows()
+    {
+        return flushingEveryRows;
+    }
+
+    long getFlushingEveryBytes()
+    {
+        return flushingEveryBytes;
+    }
+
+    boolean shouldCompressByExtension()
+    {
+        return compressingByExtension;
+    }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Methods
@@ -113,8 +179,94 @@ public class CSVExporterBuilder< BEAN >
         return this;
     }
 
+    /**
+     * Lists and streams are formatted and encoded in chunks on the common pool and written in their original order,
+     * charsets writing a byte order mark (as UTF-16) are always written sequentially
+     */
+    public CSVExporterBuilder< BEAN > writingInParallel( boolean writingInParallel )
+    {
+        this.writingInParallel = writingInParallel;
+        return this;
+    }
+
+    public CSVExporterBuilder< BEAN > withChunkSize( int chunkSize )
+    {
+        if( chunkSize <= 0 ) throw new IllegalArgumentException( "chunk size should be bigger than 0" );
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * The result set cursor is drained on the calling thread while a writer thread formats and writes the beans,
+     * chunks of beans are handed over through a queue of bounded capacity (in chunks)
+     */
+    public CSVExporterBuilder< BEAN > pipeliningResultSets( boolean pipeliningResultSets )
+    {
+        this.pipeliningResultSets = pipeliningResultSets;
+        return this;
+    }
+
+    public CSVExporterBuilder< BEAN > withPipelineCapacity( int pipelineCapacity )
+    {
+        if( pipelineCapacity <= 0 ) throw new IllegalArgumentException( "pipeline capacity should be bigger than 0" );
+        this.pipelineCapacity = pipelineCapacity;
+        return this;
+    }
+
+    /**
+     * Fetch size hint given to the result sets before draining them, 0 keeps the driver default
+     */
+    public CSVExporterBuilder< BEAN > withFetchSize( int fetchSize )
+    {
+        if( fetchSize < 0 ) throw new IllegalArgumentException( "fetch size should not be negative" );
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Size of the char buffer rows are formatted into and of the byte buffer they are encoded into
+     */
+    public CSVExporterBuilder< BEAN > withBufferSize( int bufferSize )
+    {
+        if( bufferSize <= 0 ) throw new IllegalArgumentException( "buffer size should be bigger than 0" );
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Flushes the output stream after every n rows, 0 flushes only when the buffers are full or on close
+     */
+    public CSVExporterBuilder< BEAN > flushingEveryRows( int flushingEveryRows )
+    {
+        if( flushingEveryRows < 0 ) throw new IllegalArgumentException( "rows should not be negative" );
+        this.flushingEveryRows = flushingEveryRows;
+        return this;
+    }
+
+    /**
+     * Flushes the output stream once n bytes were written since the last flush, checked at the end of every row
+     * (chars not encoded yet count as one byte each), 0 flushes only when the buffers are full or on close
+     */
+    public CSVExporterBuilder< BEAN > flushingEveryBytes( long flushingEveryBytes )
+    {
+        if( flushingEveryBytes < 0 ) throw new IllegalArgumentException( "bytes should not be negative" );
+        this.flushingEveryBytes = flushingEveryBytes;
+        return this;
+    }
+
+    /**
+     * Files named *.gz are written as blocked gzip, readable by any gzip tool and inflated in parallel by the
+     * importer; on by default. No other format is written: *.zst, *.lz4 and any other name are written plain
+     */
+    public CSVExporterBuilder< BEAN > compressingByExtension( boolean compressingByExtension )
+    {
+        this.compressingByExtension = compressingByExtension;
+        return this;
+    }
+
     public CSVExporter< BEAN > build()
     {
+        this.mappers = csvParser.indexCSVMappers( mappings );
         return new CSVExporter<>( this );
     }
 
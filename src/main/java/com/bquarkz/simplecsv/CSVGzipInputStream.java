@@ -0,0 +1,267 @@
+package com.bquarkz.simplecsv;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Inflates blocked gzip (BGZF: gzip members carrying their own compressed size, as written by bgzip and by
+ * {@link CSVGzipOutputStream}) on the common pool, several blocks at once while the reader takes them in order;
+ * any other gzip, multi-member or not, has no block boundaries to split on and is inflated on a read ahead thread
+ */
+final class CSVGzipInputStream extends InputStream
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int BLOCK_HEADER_SIZE = 18;
+    static final int BLOCK_TRAILER_SIZE = 8;
+    static final int MAX_BLOCK_SIZE = 64 * 1024;
+
+    private static final byte[] EMPTY = new byte[ 0 ];
+    private static final ThreadLocal< Inflater > INFLATERS = ThreadLocal.withInitial( () -> new Inflater( true ) );
+
+    /**
+     * Without a parallel common pool every async task would get a thread of its own, blocks are inflated inline
+     */
+    private static final boolean PARALLEL = ForkJoinPool.getCommonPoolParallelism() > 1;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final InputStream source;
+    private final int window;
+    private final Deque< CompletableFuture< byte[] > > pending;
+
+    private boolean sourceEnded;
+    private boolean closed;
+    private byte[] current;
+    private int posix;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private CSVGzipInputStream( InputStream source )
+    {
+        this.source = source;
+        this.window = Math.max( 2, ForkJoinPool.getCommonPoolParallelism() * 2 );
+        this.pending = new ArrayDeque<>( window );
+        this.current = EMPTY;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Looks at the first member header to pick the parallel path, the header is replayed either way
+     */
+    static InputStream open( InputStream source, int readAheadBuffers ) throws IOException
+    {
+        final byte[] header = new byte[ BLOCK_HEADER_SIZE ];
+        final int length = CSVCompression.readFully( source, header );
+        final InputStream replayed = new SequenceInputStream( new ByteArrayInputStream( header, 0, length ), source );
+        if( length == BLOCK_HEADER_SIZE && isBlockHeader( header ) ) return new CSVGzipInputStream( replayed );
+
+        return new CSVReadAheadInputStream(
+                new GZIPInputStream( replayed, CSVReadAheadInputStream.DEFAULT_CHUNK_SIZE ),
+                Math.max( 2, readAheadBuffers ) );
+    }
+
+    /**
+     * Gzip member with just the BGZF extra field: "BC" holding the size of the whole member minus 1
+     */
+    static boolean isBlockHeader( byte[] header )
+    {
+        return header[ 0 ] == 0x1f
+                && header[ 1 ] == (byte)0x8b
+                && header[ 2 ] == 8
+                && header[ 3 ] == 4
+                && shortAt( header, 10 ) == 6
+                && header[ 12 ] == 'B'
+                && header[ 13 ] == 'C'
+                && shortAt( header, 14 ) == 2;
+    }
+
+    static int shortAt( byte[] bytes, int index )
+    {
+        return ( bytes[ index ] & 0xFF ) | ( bytes[ index + 1 ] & 0xFF ) << 8;
+    }
+
+    static int intAt( byte[] bytes, int index )
+    {
+        return shortAt( bytes, index ) | shortAt( bytes, index + 2 ) << 16;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private void shouldStillOpen() throws IOException
+    {
+        if( closed ) throw new IOException( "Stream closed" );
+    }
+
+    /**
+     * Reads the next member as is, on this thread, and hands its inflation to the common pool, or inflates it
+     * right away when the pool is not parallel; false at the end of the source
+     */
+    private boolean submitNextBlock() throws IOException
+    {
+        final byte[] header = new byte[ BLOCK_HEADER_SIZE ];
+        final int length = CSVCompression.readFully( source, header );
+        if( length == 0 ) return false;
+        if( length < BLOCK_HEADER_SIZE || !isBlockHeader( header ) ) throw new ZipException( "not a blocked gzip member" );
+
+        final int blockSize = shortAt( header, 16 ) + 1;
+        if( blockSize < BLOCK_HEADER_SIZE + BLOCK_TRAILER_SIZE ) throw new ZipException( "corrupt gzip block size" );
+
+        final byte[] block = new byte[ blockSize - BLOCK_HEADER_SIZE ];
+        if( CSVCompression.readFully( source, block ) < block.length ) throw new EOFException( "truncated gzip block" );
+        pending.addLast( PARALLEL ? CompletableFuture.supplyAsync( () -> inflate( block ) ) : inflated( block ) );
+        return true;
+    }
+
+    private static CompletableFuture< byte[] > inflated( byte[] block )
+    {
+        final CompletableFuture< byte[] > future = new CompletableFuture<>();
+        try
+        {
+            future.complete( inflate( block ) );
+        }
+        catch( RuntimeException e )
+        {
+            future.completeExceptionally( e );
+        }
+        return future;
+    }
+
+    /**
+     * Compressed data followed by the CRC32 and the size of the inflated data
+     */
+    private static byte[] inflate( byte[] block )
+    {
+        final int compressed = block.length - BLOCK_TRAILER_SIZE;
+        final int size = intAt( block, compressed + 4 );
+        if( size < 0 || size > MAX_BLOCK_SIZE ) throw new UncheckedIOException( new ZipException( "corrupt gzip block size" ) );
+
+        final byte[] bytes = new byte[ size ];
+        final Inflater inflater = INFLATERS.get();
+        inflater.reset();
+        inflater.setInput( block, 0, compressed );
+        int inflated = 0;
+        try
+        {
+            while( inflated < size )
+            {
+                final int n = inflater.inflate( bytes, inflated, size - inflated );
+                if( n == 0 && ( inflater.finished() || inflater.needsInput() || inflater.needsDictionary() ) ) break;
+                inflated += n;
+            }
+        }
+        catch( DataFormatException e )
+        {
+            throw new UncheckedIOException( new ZipException( "corrupt gzip block: " + e.getMessage() ) );
+        }
+        if( inflated != size ) throw new UncheckedIOException( new ZipException( "corrupt gzip block: size mismatch" ) );
+
+        final CRC32 crc = new CRC32();
+        crc.update( bytes, 0, size );
+        if( (int)crc.getValue() != intAt( block, compressed ) )
+        {
+            throw new UncheckedIOException( new ZipException( "corrupt gzip block: crc mismatch" ) );
+        }
+        return bytes;
+    }
+
+    /**
+     * Keeps up to the window of blocks inflating ahead, then waits for the oldest one; false at the end
+     */
+    private boolean ensureBlock() throws IOException
+    {
+        while( posix >= current.length )
+        {
+            while( !sourceEnded && pending.size() < window )
+            {
+                sourceEnded = !submitNextBlock();
+            }
+            if( pending.isEmpty() ) return false;
+
+            current = join( pending.removeFirst() );
+            posix = 0;
+        }
+        return true;
+    }
+
+    private static byte[] join( CompletableFuture< byte[] > future ) throws IOException
+    {
+        try
+        {
+            return future.join();
+        }
+        catch( CompletionException e )
+        {
+            if( e.getCause() instanceof UncheckedIOException ) throw ( (UncheckedIOException)e.getCause() ).getCause();
+            if( e.getCause() instanceof RuntimeException ) throw (RuntimeException)e.getCause();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        shouldStillOpen();
+        if( !ensureBlock() ) return -1;
+        return current[ posix++ ] & 0xFF;
+    }
+
+    @Override
+    public int read( byte[] bytes, int offset, int length ) throws IOException
+    {
+        shouldStillOpen();
+        if( length == 0 ) return 0;
+        if( !ensureBlock() ) return -1;
+
+        final int n = Math.min( length, current.length - posix );
+        System.arraycopy( current, posix, bytes, offset, n );
+        posix += n;
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException
+    {
+        shouldStillOpen();
+        return current.length - posix;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if( closed ) return;
+        closed = true;
+        pending.forEach( future -> future.cancel( false ) );
+        pending.clear();
+        source.close();
+    }
+}
@@ -0,0 +1,196 @@
+package com.bquarkz.simplecsv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes blocked gzip (BGZF): the output is cut in blocks deflated on the common pool and written in order as
+ * independent gzip members, so any gzip tool reads it and {@link CSVGzipInputStream} inflates it in parallel; every
+ * flush closes the current block
+ */
+final class CSVGzipOutputStream extends OutputStream
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Leaves room for the deflate overhead of incompressible data, a block never goes past 64KB
+     */
+    static final int BLOCK_DATA_SIZE = 0xff00;
+
+    private static final byte[] BLOCK_HEADER = {
+            0x1f, (byte)0x8b, 8, 4, 0, 0, 0, 0, 0, (byte)0xff, 6, 0, 'B', 'C', 2, 0 };
+    private static final byte[] EOF_BLOCK = {
+            0x1f, (byte)0x8b, 8, 4, 0, 0, 0, 0, 0, (byte)0xff, 6, 0, 'B', 'C', 2, 0, 0x1b, 0,
+            3, 0, 0, 0, 0, 0, 0, 0, 0, 0 };
+    private static final ThreadLocal< Deflater > DEFLATERS = ThreadLocal.withInitial(
+            () -> new Deflater( Deflater.DEFAULT_COMPRESSION, true ) );
+
+    /**
+     * Without a parallel common pool every async task would get a thread of its own, blocks are deflated inline
+     */
+    private static final boolean PARALLEL = ForkJoinPool.getCommonPoolParallelism() > 1;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final OutputStream sink;
+    private final int window;
+    private final Deque< CompletableFuture< byte[] > > pending;
+
+    private byte[] block;
+    private int length;
+    private boolean closed;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    CSVGzipOutputStream( OutputStream sink )
+    {
+        this.sink = sink;
+        this.window = Math.max( 2, ForkJoinPool.getCommonPoolParallelism() * 2 );
+        this.pending = new ArrayDeque<>( window );
+        this.block = new byte[ BLOCK_DATA_SIZE ];
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private void shouldStillOpen() throws IOException
+    {
+        if( closed ) throw new IOException( "Stream closed" );
+    }
+
+    /**
+     * Whole gzip member: header with the block size, deflated data, CRC32 and size of the data
+     */
+    private static byte[] deflate( byte[] data, int size )
+    {
+        final byte[] member = new byte[ CSVGzipInputStream.MAX_BLOCK_SIZE ];
+        System.arraycopy( BLOCK_HEADER, 0, member, 0, BLOCK_HEADER.length );
+
+        final Deflater deflater = DEFLATERS.get();
+        deflater.reset();
+        deflater.setInput( data, 0, size );
+        deflater.finish();
+        int posix = CSVGzipInputStream.BLOCK_HEADER_SIZE;
+        final int limit = member.length - CSVGzipInputStream.BLOCK_TRAILER_SIZE;
+        while( !deflater.finished() )
+        {
+            if( posix == limit ) throw new IllegalStateException( "gzip block overflow" );
+            posix += deflater.deflate( member, posix, limit - posix );
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update( data, 0, size );
+        posix = putInt( member, posix, (int)crc.getValue() );
+        posix = putInt( member, posix, size );
+
+        member[ 16 ] = (byte)( posix - 1 );
+        member[ 17 ] = (byte)( ( posix - 1 ) >>> 8 );
+        return Arrays.copyOf( member, posix );
+    }
+
+    private static int putInt( byte[] bytes, int index, int value )
+    {
+        bytes[ index ] = (byte)value;
+        bytes[ index + 1 ] = (byte)( value >>> 8 );
+        bytes[ index + 2 ] = (byte)( value >>> 16 );
+        bytes[ index + 3 ] = (byte)( value >>> 24 );
+        return index + 4;
+    }
+
+    /**
+     * Hands the current block to the common pool, or deflates it right away when the pool is not parallel, writing
+     * the oldest ones once the window is full
+     */
+    private void submitBlock() throws IOException
+    {
+        final byte[] data = block;
+        final int size = length;
+        pending.addLast( PARALLEL
+                ? CompletableFuture.supplyAsync( () -> deflate( data, size ) )
+                : CompletableFuture.completedFuture( deflate( data, size ) ) );
+        block = new byte[ BLOCK_DATA_SIZE ];
+        length = 0;
+
+        while( pending.size() >= window )
+        {
+            sink.write( pending.removeFirst().join() );
+        }
+    }
+
+    @Override
+    public void write( int b ) throws IOException
+    {
+        shouldStillOpen();
+        block[ length++ ] = (byte)b;
+        if( length == block.length ) submitBlock();
+    }
+
+    @Override
+    public void write( byte[] bytes, int offset, int length ) throws IOException
+    {
+        shouldStillOpen();
+        while( length > 0 )
+        {
+            final int n = Math.min( length, block.length - this.length );
+            System.arraycopy( bytes, offset, block, this.length, n );
+            this.length += n;
+            offset += n;
+            length -= n;
+            if( this.length == block.length ) submitBlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        shouldStillOpen();
+        if( length > 0 ) submitBlock();
+        while( !pending.isEmpty() )
+        {
+            sink.write( pending.removeFirst().join() );
+        }
+        sink.flush();
+    }
+
+    /**
+     * Ends with the empty block BGZF readers take as the end of file mark
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if( closed ) return;
+        try
+        {
+            flush();
+            sink.write( EOF_BLOCK );
+        }
+        finally
+        {
+            closed = true;
+            sink.close();
+        }
+    }
+}
@@ -5,10 +5,10 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import static com.bquarkz.simplecsv.CSVUtils.splitOnColumns;
-
 public class CSVImporter< BEAN >
 {
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -40,6 +40,38 @@ public class CSVImporter< BEAN >
         return csvReader;
     }
 
+    /**
+     * Reads the file from the given row on (rows counted after the header), see {@link CSVRowIndex}
+     */
+    public CSVReader fromFile( String inputFilename, long firstRow ) throws IOException
+    {
+        csvReader = new CSVReader( inputFilename, firstRow );
+        return csvReader;
+    }
+
+    /**
+     * Resumes reading the file where a previous reader took its checkpoint, see {@link CSVReader#checkpoint()}
+     */
+    public CSVReader fromFile( String inputFilename, CSVCheckpoint checkpoint ) throws IOException
+    {
+        csvReader = new CSVReader( inputFilename, checkpoint );
+        return csvReader;
+    }
+
+    /**
+     * Row index of the file, loaded from its sidecar or built (and persisted) with a single scan
+     */
+    public CSVRowIndex indexRows( String inputFilename ) throws IOException
+    {
+        final File file = new File( inputFilename );
+        shouldBePlain( file );
+        return CSVRowIndex.forFile(
+                file,
+                builder.getCharset(),
+                builder.getDelimiters(),
+                builder.getRowIndexStride() );
+    }
+
     public CSVReader fromFile( InputStream inputStream )
     {
         csvReader = new CSVReader( inputStream );
@@ -57,6 +89,30 @@ public class CSVImporter< BEAN >
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Methods
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private void shouldBePlain( File file ) throws IOException
+    {
+        if( builder.shouldDecompress() && CSVCompression.ofFile( file ) != CSVCompression.NONE )
+        {
+            throw new IllegalArgumentException( "compressed files can't be sought" );
+        }
+    }
+
+    private boolean isCompressed( String inputFilename ) throws FileNotFoundException
+    {
+        if( !builder.shouldDecompress() ) return false;
+        try
+        {
+            return CSVCompression.ofFile( new File( inputFilename ) ) != CSVCompression.NONE;
+        }
+        catch( FileNotFoundException e )
+        {
+            throw e;
+        }
+        catch( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+    }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Inner Classes And Patterns
@@ -67,6 +123,16 @@ public class CSVImporter< BEAN >
         private final Reader inputReader;
         private final CSVBufferedReader bufferedReader;
         private final boolean shouldCloseInputStream;
+        private final long fileLength;
+        private final long lastModified;
+        private final boolean compressed;
+
+        private int[] binding;
+        private boolean boundByName;
+        private int[] filterColumns;
+        private boolean headerRead;
+        private long rowNumber;
+        private boolean streamed;
 
         public CSVReader( String inputFilename ) throws FileNotFoundException
         {
@@ -75,10 +141,31 @@ public class CSVImporter< BEAN >
                 throw new IllegalArgumentException( "input filename should not be empty" );
             }
 
+            final File file = new File( inputFilename );
+            this.fileLength = file.length();
+            this.lastModified = file.lastModified();
+            this.compressed = isCompressed( inputFilename );
             this.shouldCloseInputStream = true;
-            this.inputStream = new FileInputStream( inputFilename );
-            this.inputReader = new InputStreamReader( inputStream, builder.getCharset() );
-            this.bufferedReader = new CSVBufferedReader( inputReader, builder.getBufferSize(), builder.getDelimiters(), builder.shouldSkipHeader() );
+            if( builder.shouldMapFilesToMemory() && !compressed )
+            {
+                this.inputStream = null;
+                this.inputReader = new CSVMappedFileReader( inputFilename, builder.getCharset() );
+            }
+            else if( shouldScanBytes() )
+            {
+                this.inputStream = new FileInputStream( inputFilename );
+                this.inputReader = null;
+            }
+            else
+            {
+                this.inputStream = new FileInputStream( inputFilename );
+                this.inputReader = new InputStreamReader( readingAhead( decompressing( inputStream ) ), builder.getCharset() );
+            }
+            this.bufferedReader = inputReader == null
+                    ? newBufferedReader( readingAhead( decompressing( inputStream ) ) )
+                    : newBufferedReader( inputReader );
+            this.binding = builder.getBinding();
+            this.filterColumns = builder.getFilterColumns();
         }
 
         public CSVReader( InputStream inputStream )
@@ -88,10 +175,180 @@ public class CSVImporter< BEAN >
                 throw new IllegalArgumentException( "outputWriter should not be null" );
             }
 
+            this.fileLength = -1;
+            this.lastModified = 0;
+            this.compressed = false;
             this.shouldCloseInputStream = false;
             this.inputStream = inputStream;
-            this.inputReader = new InputStreamReader( this.inputStream, builder.getCharset() );
-            this.bufferedReader = new CSVBufferedReader( inputReader, builder.getBufferSize(), builder.getDelimiters(), builder.shouldSkipHeader() );
+            if( shouldScanBytes() )
+            {
+                this.inputReader = null;
+                this.bufferedReader = newBufferedReader( readingAhead( decompressing( this.inputStream ) ) );
+            }
+            else
+            {
+                this.inputReader = new InputStreamReader( readingAhead( decompressing( this.inputStream ) ), builder.getCharset() );
+                this.bufferedReader = newBufferedReader( inputReader );
+            }
+            this.binding = builder.getBinding();
+            this.filterColumns = builder.getFilterColumns();
+        }
+
+        /**
+         * Reads the file from the given row on (rows counted after the header), seeking through its row index;
+         * the header is still read first when it should be verified or bound
+         */
+        public CSVReader( String inputFilename, long firstRow ) throws IOException
+        {
+            this( inputFilename, firstRow, null );
+        }
+
+        /**
+         * Resumes reading the file from a checkpoint, no row before it is scanned again
+         */
+        public CSVReader( String inputFilename, CSVCheckpoint checkpoint ) throws IOException
+        {
+            this( inputFilename, Objects.requireNonNull( checkpoint, "checkpoint should not be null" ).getRowNumber(), checkpoint );
+        }
+
+        private CSVReader( String inputFilename, long firstRow, CSVCheckpoint checkpoint ) throws IOException
+        {
+            if( inputFilename == null || inputFilename.trim().isEmpty() )
+            {
+                throw new IllegalArgumentException( "input filename should not be empty" );
+            }
+            if( firstRow < 0 ) throw new IllegalArgumentException( "first row should not be negative" );
+            shouldSeekBytes();
+
+            final File file = new File( inputFilename );
+            shouldBePlain( file );
+            if( checkpoint != null ) checkpoint.shouldBeOf( file );
+            this.fileLength = file.length();
+            this.lastModified = file.lastModified();
+            this.compressed = false;
+            final CSVRowIndex index = checkpoint == null
+                    ? CSVRowIndex.forFile( file, builder.getCharset(), builder.getDelimiters(), builder.getRowIndexStride() )
+                    : null;
+            final FileInputStream fileStream = new FileInputStream( file );
+            this.shouldCloseInputStream = true;
+            this.inputStream = fileStream;
+            this.inputReader = null;
+            this.bufferedReader = newBufferedReader( fileStream );
+            this.binding = builder.getBinding();
+            this.filterColumns = builder.getFilterColumns();
+            try
+            {
+                if( index == null )
+                {
+                    seek( fileStream, checkpoint.getPosition(), 0 );
+                }
+                else
+                {
+                    final long indexedRow = index.indexedRowOf( firstRow );
+                    seek( fileStream, index.offsetOf( indexedRow ), firstRow - indexedRow );
+                }
+                this.rowNumber = firstRow;
+            }
+            catch( IOException | RuntimeException e )
+            {
+                close();
+                throw e;
+            }
+        }
+
+        private void shouldSeekBytes()
+        {
+            if( !CSVBufferedReader.canScanBytes( builder.getCharset(), builder.getDelimiters() ) )
+            {
+                throw new IllegalArgumentException( "files can only be sought with ASCII compatible charsets and delimiters" );
+            }
+        }
+
+        /**
+         * Reads the header when needed, then moves the file to the byte offset and skips the rows before the
+         * wanted one; at the very beginning the header is just read as usual
+         */
+        private void seek( FileInputStream fileStream, long position, long skippedRows ) throws IOException
+        {
+            if( position > 0 && shouldReadHeader() )
+            {
+                final CSVBufferedReader.Row header = bufferedReader._readNextRow();
+                if( header != null && header.isHeader() ) readHeader( builder.getCsvParser(), header );
+            }
+
+            fileStream.getChannel().position( position );
+            bufferedReader.reposition( position );
+            for( long row = 0; row < skippedRows; row++ )
+            {
+                if( bufferedReader._readNextRow() == null ) break;
+            }
+        }
+
+        private InputStream decompressing( InputStream inputStream )
+        {
+            return builder.shouldDecompress()
+                    ? CSVCompression.sniffing( inputStream, builder.getReadAheadBuffers() )
+                    : inputStream;
+        }
+
+        private InputStream readingAhead( InputStream inputStream )
+        {
+            return builder.shouldReadAhead()
+                    ? new CSVReadAheadInputStream( inputStream, builder.getReadAheadBuffers() )
+                    : inputStream;
+        }
+
+        private boolean accepts( CSVBufferedReader.Row row )
+        {
+            final int[] columns = filterColumns;
+            if( columns == null ) return true;
+
+            final FilterField[] filters = builder.getFilters();
+            for( int i = 0; i < columns.length; i++ )
+            {
+                if( !row.matches( columns[ i ], filters[ i ] ) ) return false;
+            }
+            return true;
+        }
+
+        private BEAN toBean(
+                CSVParser< BEAN > parser,
+                CSVBufferedReader.Row row,
+                CSVDelimiters delimiters,
+                Supplier< BEAN > factory )
+        {
+            final int[] binding = this.binding;
+            final CSVBeanConstructor< BEAN > constructor = builder.getPositionalConstructor();
+            if( constructor != null ) return parser.toBean( row, delimiters, constructor, builder.getMappers(), binding, !boundByName );
+            return binding == null
+                    ? parser.toBean( row, delimiters, factory, builder.getMappers() )
+                    : parser.toBean( row, delimiters, factory, builder.getMappers(), binding, !boundByName );
+        }
+
+        private boolean shouldScanBytes()
+        {
+            return builder.shouldScanBytes() && CSVBufferedReader.canScanBytes( builder.getCharset(), builder.getDelimiters() );
+        }
+
+        private CSVBufferedReader newBufferedReader( InputStream inputStream )
+        {
+            return new CSVBufferedReader(
+                    inputStream,
+                    builder.getCharset(),
+                    builder.getBufferSize(),
+                    builder.getDelimiters(),
+                    builder.shouldSkipHeader() && !builder.shouldBindHeaderByName(),
+                    builder.shouldSynchronizeReads() );
+        }
+
+        private CSVBufferedReader newBufferedReader( Reader inputReader )
+        {
+            return new CSVBufferedReader(
+                    inputReader,
+                    builder.getBufferSize(),
+                    builder.getDelimiters(),
+                    builder.shouldSkipHeader() && !builder.shouldBindHeaderByName(),
+                    builder.shouldSynchronizeReads() );
         }
 
         @Override
@@ -118,15 +375,16 @@ public class CSVImporter< BEAN >
 
         public Stream< BEAN > stream()
         {
+            streamed = true;
             final CSVDelimiters delimiters = builder.getDelimiters();
             final CSVParser< BEAN > parser = builder.getCsvParser();
             try
             {
-                if( builder.shouldVerifyHeader() )
+                if( shouldReadHeader() && !headerRead )
                 {
                     final CSVBufferedReader.Row row = bufferedReader._readNextRow();
                     if( row == null || !row.isHeader() ) return Stream.empty();
-                    verifyHeader( delimiters, parser, row );
+                    readHeader( parser, row );
                 }
             }
             catch( IOException e )
@@ -136,12 +394,15 @@ public class CSVImporter< BEAN >
                     throw new ExceptionCSVBeanConfiguration( "problems to read header" );
                 }
             }
-            return bufferedReader
-                    .readAsStream()
+            final Stream< CSVBufferedReader.Row > rows = builder.shouldReadInParallel()
+                    ? bufferedReader.readRowsAsParallelStream( builder.getChunkSize() )
+                    : bufferedReader.readRowsAsStream();
+            return ( builder.shouldKeepOrder() ? rows : rows.unordered() )
+                    .filter( this::accepts )
                     .map( row -> {
                         try
                         {
-                            return parser.toBean( row, delimiters, builder.getFactory(), builder.getMappings() );
+                            return toBean( parser, row, delimiters, builder.getFactory() );
                         }
                         catch( ExceptionCSVMapping e )
                         {
@@ -167,18 +428,20 @@ public class CSVImporter< BEAN >
                 try
                 {
                     final CSVBufferedReader.Row row = bufferedReader._readNextRow();
-                    if( builder.shouldVerifyHeader() && row.isHeader() )
+                    if( row == null ) break;
+                    if( shouldReadHeader() && row.isHeader() )
                     {
-                        verifyHeader( delimiters, parser, row );
+                        readHeader( parser, row );
                     }
 
-                    if( row.isHeader() )
+                    if( !row.isHeader() ) rowNumber++;
+                    if( row.isHeader() || !accepts( row ) )
                     {
                         i--;
                     }
                     else
                     {
-                        result.add( parser.toBean( row.getRowContent(), delimiters, builder.getFactory(), builder.getMappings() ) );
+                        result.add( toBean( parser, row, delimiters, builder.getFactory() ) );
                     }
                 }
                 catch( ExceptionCSVMapping e )
@@ -193,20 +456,145 @@ public class CSVImporter< BEAN >
             return result;
         }
 
+        /**
+         * Flyweight read: every row repopulates a bean from a small ring (see
+         * {@link CSVImporterBuilder#withBeanRingSize}) before handing it to the consumer, so the beans must not be
+         * kept beyond the ring size; returns how many beans were handed over
+         */
+        public long readEach( final Consumer< ? super BEAN > consumer ) throws IOException
+        {
+            final CSVDelimiters delimiters = builder.getDelimiters();
+            final CSVParser< BEAN > parser = builder.getCsvParser();
+            final BeanRing< BEAN > ring = new BeanRing<>( builder.getFactory(), builder.getBeanRingSize() );
+            long count = 0;
+            CSVBufferedReader.Row row;
+            while( ( row = bufferedReader._readNextRow() ) != null )
+            {
+                if( shouldReadHeader() && row.isHeader() )
+                {
+                    readHeader( parser, row );
+                }
+                if( !row.isHeader() ) rowNumber++;
+                if( row.isHeader() || !accepts( row ) ) continue;
+
+                final BEAN bean;
+                try
+                {
+                    bean = toBean( parser, row, delimiters, ring );
+                }
+                catch( ExceptionCSVMapping e )
+                {
+                    if( builder.shouldNotIgnoreErrors() )
+                    {
+                        throw new IllegalArgumentException( "problems with bean mappings", e );
+                    }
+                    continue;
+                }
+                consumer.accept( bean );
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Rows after the header read so far by {@link #readNext} and {@link #readEach}, filtered or failed ones
+         * included; a reader sought to a row starts counting from it
+         */
+        public long getRowNumber()
+        {
+            return rowNumber;
+        }
+
+        /**
+         * Where this reader stands, to be resumed by {@link CSVImporter#fromFile(String, CSVCheckpoint)}; only kept
+         * when scanning bytes (see {@link CSVImporterBuilder#scanningBytes}) and between calls of {@link #readNext}
+         * or {@link #readEach}, streams read ahead of what they hand over; readers of input streams have no file to
+         * resume and the positions on compressed files are not offsets of the file
+         */
+        public CSVCheckpoint checkpoint()
+        {
+            if( fileLength < 0 ) throw new IllegalStateException( "checkpoints are only kept when reading a file" );
+            if( compressed ) throw new IllegalStateException( "checkpoints are not kept on compressed files" );
+            if( streamed ) throw new IllegalStateException( "checkpoints are not kept once rows were streamed" );
+
+            final long position = bufferedReader.getPosition();
+            return new CSVCheckpoint( position, rowNumber, position > 0, fileLength, lastModified );
+        }
+
+        private boolean shouldReadHeader()
+        {
+            return builder.shouldBindHeaderByName() || builder.shouldVerifyHeader();
+        }
+
+        private void readHeader(
+                CSVParser< BEAN > parser,
+                CSVBufferedReader.Row row )
+        {
+            headerRead = true;
+            if( builder.shouldBindHeaderByName() )
+            {
+                bindHeader( parser, row );
+            }
+            else
+            {
+                verifyHeader( parser, row );
+            }
+        }
+
+        /**
+         * Resolves, once for this file, the file column of every bean column and of every filter, keeping the
+         * projection on
+         */
+        private void bindHeader(
+                CSVParser< BEAN > parser,
+                CSVBufferedReader.Row row )
+        {
+            final String[] fileHeaders = new String[ row.size() ];
+            for( int i = 0; i < fileHeaders.length; i++ )
+            {
+                fileHeaders[ i ] = row.getField( i );
+            }
+
+            final int[] byName = parser.bindHeader( fileHeaders );
+            final int[] projection = builder.getBinding();
+            final int[] fileBinding = new int[ byName.length ];
+            for( int i = 0; i < byName.length; i++ )
+            {
+                fileBinding[ i ] = projection != null && projection[ i ] < 0 ? -1 : byName[ i ];
+            }
+
+            final int[] columns = builder.getFilterColumns();
+            int[] fileFilterColumns = null;
+            if( columns != null )
+            {
+                fileFilterColumns = new int[ columns.length ];
+                for( int i = 0; i < columns.length; i++ )
+                {
+                    fileFilterColumns[ i ] = byName[ columns[ i ] ];
+                    if( fileFilterColumns[ i ] < 0 )
+                    {
+                        throw new ExceptionCSVBeanConfiguration( "filtered column [ " + parser.getCSVHeaders()[ columns[ i ] ] + " ] is missing on header" );
+                    }
+                }
+            }
+
+            this.binding = fileBinding;
+            this.boundByName = true;
+            this.filterColumns = fileFilterColumns;
+        }
+
         private void verifyHeader(
-                CSVDelimiters delimiters,
                 CSVParser< BEAN > parser,
                 CSVBufferedReader.Row row )
         {
-            final String[] headers = splitOnColumns( row.getRowContent(), delimiters.getContent(), delimiters.getColumn() );
-            if( headers.length != parser.getCSVHeaders().length )
+            if( row.size() != parser.getCSVHeaders().length )
             {
                 throw new ExceptionCSVBeanConfiguration( "header doesn't fit" );
             }
 
-            for( int i = 0; i < headers.length; i++ )
+            for( int i = 0; i < row.size(); i++ )
             {
-                if( !parser.getCSVHeaders()[ i ].equals( headers[ i ] ) )
+                if( !parser.getCSVHeaders()[ i ].equals( row.getField( i ) ) )
                 {
                     throw new ExceptionCSVBeanConfiguration( "header doesn't fit" );
                 }
@@ -217,8 +605,34 @@ public class CSVImporter< BEAN >
         public void close() throws IOException
         {
             bufferedReader.close();
-            inputReader.close();
-            if( shouldCloseInputStream ) inputStream.close();
+            if( inputReader != null ) inputReader.close();
+            if( shouldCloseInputStream && inputStream != null ) inputStream.close();
+        }
+    }
+
+    /**
+     * Hands out the same few beans over and over, built lazily by the factory on first use
+     */
+    private static final class BeanRing< BEAN > implements Supplier< BEAN >
+    {
+        private final Supplier< BEAN > factory;
+        private final Object[] beans;
+        private int next;
+
+        BeanRing( Supplier< BEAN > factory, int size )
+        {
+            this.factory = factory;
+            this.beans = new Object[ size ];
+        }
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public BEAN get()
+        {
+            if( beans[ next ] == null ) beans[ next ] = factory.get();
+            final BEAN bean = (BEAN)beans[ next ];
+            next = next + 1 == beans.length ? 0 : next + 1;
+            return bean;
         }
     }
 }
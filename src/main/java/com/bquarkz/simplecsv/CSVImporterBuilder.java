@@ -1,6 +1,5 @@
 package com.bquarkz.simplecsv;
 
-import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.function.Supplier;
@@ -13,6 +12,9 @@ public class CSVImporterBuilder< BEAN >
     // Constants
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     private static final Integer DEFAULT_BUFFER_SIZE = 8192;
+    private static final Integer DEFAULT_CHUNK_SIZE = 1024;
+    private static final Integer DEFAULT_READ_AHEAD_BUFFERS = 2;
+    private static final Integer DEFAULT_BEAN_RING_SIZE = 1;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Special Fields And Injections
@@ -31,8 +33,27 @@ public class CSVImporterBuilder< BEAN >
     private Boolean shouldSkipHeader;
     private Boolean shouldVerifyHeader;
 
-    private MappingBean[] mappings;
+    private MapperBean[] mappers;
+    private String[] projection;
+    private int[] binding;
+    private FilteringField[] filterings;
+    private int[] filterColumns;
+    private FilterField[] filters;
     private int bufferSize;
+    private boolean readingInParallel;
+    private boolean keepingOrder;
+    private int chunkSize;
+    private boolean mappingFilesToMemory;
+    private boolean synchronizingReads;
+    private boolean readingAhead;
+    private int readAheadBuffers;
+    private int beanRingSize;
+    private boolean constructingByPosition;
+    private boolean bindingHeaderByName;
+    private boolean scanningBytes;
+    private boolean decompressing;
+    private int rowIndexStride;
+    private CSVBeanConstructor< BEAN > positionalConstructor;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constructors
@@ -45,6 +66,16 @@ public class CSVImporterBuilder< BEAN >
         this.delimiters = new CSVDelimiters();
         this.factory = getDefaultConstructor( beanClass );
         this.bufferSize = DEFAULT_BUFFER_SIZE;
+        this.readingInParallel = false;
+        this.keepingOrder = true;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.mappingFilesToMemory = false;
+        this.synchronizingReads = true;
+        this.readingAhead = false;
+        this.readAheadBuffers = DEFAULT_READ_AHEAD_BUFFERS;
+        this.beanRingSize = DEFAULT_BEAN_RING_SIZE;
+        this.rowIndexStride = CSVRowIndex.DEFAULT_STRIDE;
+        this.decompressing = true;
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -89,9 +120,30 @@ public class CSVImporterBuilder< BEAN >
         return shouldSkipHeader() ? false : ofNullable( shouldVerifyHeader ).orElse( csvParser.getParserDetails().shouldVerifyHeader() );
     }
 
-    MappingBean[] getMappings()
+    MapperBean[] getMappers()
     {
-        return mappings;
+        return mappers;
+    }
+
+    /**
+     * Row field of every bean column, null when every column is mapped
+     */
+    int[] getBinding()
+    {
+        return binding;
+    }
+
+    /**
+     * Header positions of the filtered columns, paired with {@link #getFilters()}, null when nothing is filtered
+     */
+    int[] getFilterColumns()
+    {
+        return filterColumns;
+    }
+
+    FilterField[] getFilters()
+    {
+        return filters;
     }
 
     int getBufferSize()
@@ -99,24 +151,113 @@ public class CSVImporterBuilder< BEAN >
         return bufferSize;
     }
 
+    boolean shouldReadInParallel()
+    {
+        return readingInParallel;
+    }
+
+    boolean shouldKeepOrder()
+    {
+        return keepingOrder;
+    }
+
+    int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    boolean shouldMapFilesToMemory()
+    {
+        return mappingFilesToMemory;
+    }
+
+    boolean shouldSynchronizeReads()
+    {
+        return synchronizingReads;
+    }
+
+    boolean shouldReadAhead()
+    {
+        return readingAhead;
+    }
+
+    int getReadAheadBuffers()
+    {
+        return readAheadBuffers;
+    }
+
+    int getBeanRingSize()
+    {
+        return beanRingSize;
+    }
+
+    int getRowIndexStride()
+    {
+        return rowIndexStride;
+    }
+
+    boolean shouldScanBytes()
+    {
+        return scanningBytes;
+    }
+
+    boolean shouldDecompress()
+    {
+        return decompressing;
+    }
+
+    boolean shouldBindHeaderByName()
+    {
+        return bindingHeaderByName;
+    }
+
+    /**
+     * Constructor taking the columns by position, null when beans come from the factory
+     */
+    CSVBeanConstructor< BEAN > getPositionalConstructor()
+    {
+        return positionalConstructor;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Methods
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    private Supplier< BEAN > getDefaultConstructor( Class< BEAN > beanClass )
+    private void indexFilters()
     {
-        return () -> {
-            try
-            {
-                return beanClass.getConstructor().newInstance();
-            }
-            catch( InstantiationException
-                    | NoSuchMethodException
-                    | InvocationTargetException
-                    | IllegalAccessException e )
+        if( filterings == null )
+        {
+            this.filterColumns = null;
+            this.filters = null;
+            return;
+        }
+
+        this.filterColumns = new int[ filterings.length ];
+        this.filters = new FilterField[ filterings.length ];
+        for( int i = 0; i < filterings.length; i++ )
+        {
+            final int index = csvParser.indexOfHeader( filterings[ i ].columnName() );
+            if( index < 0 )
             {
-                throw new ExceptionCSVBeanConfiguration( "bean configuration problem: no public default constructor perhaps?", e );
+                throw new ExceptionCSVBeanConfiguration( "unknown column [ " + filterings[ i ].columnName() + " ]" );
             }
-        };
+            filterColumns[ i ] = index;
+            filters[ i ] = filterings[ i ].filter();
+        }
+    }
+
+    /**
+     * Resolves the default constructor once, a bean without one only fails when the factory is actually used
+     */
+    private Supplier< BEAN > getDefaultConstructor( Class< BEAN > beanClass )
+    {
+        final CSVBeanConstructor< BEAN > constructor = CSVBeanConstructor.byDefault( beanClass );
+        if( constructor == null )
+        {
+            return () -> {
+                throw new ExceptionCSVBeanConfiguration( "bean configuration problem: no public default constructor perhaps?" );
+            };
+        }
+        return constructor::newInstance;
     }
 
     public CSVImporterBuilder< BEAN > withDelimiters( CSVDelimiters delimiters )
@@ -163,16 +304,155 @@ public class CSVImporterBuilder< BEAN >
 
     public CSVImporter< BEAN > build( MappingBean... mappings )
     {
-        this.mappings = mappings;
+        this.mappers = csvParser.indexBeanMappers( mappings );
+        this.binding = projection == null ? null : csvParser.bindColumns( projection );
+        indexFilters();
+        if( !constructingByPosition && csvParser.hasReadOnlyColumns() )
+        {
+            throw new ExceptionCSVBeanConfiguration( "bean configuration problem: final columns of "
+                    + beanClass.getSimpleName() + " can only be set by constructingByPosition( true )" );
+        }
+        this.positionalConstructor = constructingByPosition ? csvParser.findPositionalConstructor( beanClass ) : null;
         return new CSVImporter<>( this );
     }
 
+    /**
+     * Only the named columns are parsed and mapped, the other bean fields are left as the factory built them
+     */
+    public CSVImporterBuilder< BEAN > projecting( String... columns )
+    {
+        this.projection = columns == null || columns.length == 0 ? null : columns.clone();
+        return this;
+    }
+
+    /**
+     * Rows whose raw content does not pass every filter are discarded before any bean is built
+     */
+    public CSVImporterBuilder< BEAN > filtering( FilteringField... filterings )
+    {
+        this.filterings = filterings == null || filterings.length == 0 ? null : filterings.clone();
+        return this;
+    }
+
     public CSVImporterBuilder< BEAN > withBufferSize( int bufferSize )
     {
         this.bufferSize = bufferSize;
         return this;
     }
 
+    public CSVImporterBuilder< BEAN > readingInParallel( boolean readingInParallel )
+    {
+        this.readingInParallel = readingInParallel;
+        return this;
+    }
+
+    public CSVImporterBuilder< BEAN > keepingOrder( boolean keepingOrder )
+    {
+        this.keepingOrder = keepingOrder;
+        return this;
+    }
+
+    public CSVImporterBuilder< BEAN > withChunkSize( int chunkSize )
+    {
+        if( chunkSize <= 0 ) throw new IllegalArgumentException( "chunk size should be bigger than 0" );
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public CSVImporterBuilder< BEAN > mappingFilesToMemory( boolean mappingFilesToMemory )
+    {
+        this.mappingFilesToMemory = mappingFilesToMemory;
+        return this;
+    }
+
+    /**
+     * Readers are safe to share between threads by default, turn it off when every reader is used by one thread
+     */
+    public CSVImporterBuilder< BEAN > synchronizingReads( boolean synchronizingReads )
+    {
+        this.synchronizingReads = synchronizingReads;
+        return this;
+    }
+
+    /**
+     * Input streams are read by a background thread a few chunks ahead of the parsing, files mapped to memory are
+     * never read ahead
+     */
+    public CSVImporterBuilder< BEAN > readingAhead( boolean readingAhead )
+    {
+        this.readingAhead = readingAhead;
+        return this;
+    }
+
+    public CSVImporterBuilder< BEAN > withReadAheadBuffers( int readAheadBuffers )
+    {
+        if( readAheadBuffers < 2 ) throw new IllegalArgumentException( "read ahead needs at least 2 buffers" );
+        this.readAheadBuffers = readAheadBuffers;
+        return this;
+    }
+
+    /**
+     * Rows are scanned on the raw bytes and only the fields turned into Strings are decoded; applies to UTF-8,
+     * US-ASCII and ISO-8859-1 with ASCII delimiters, other setups (and files mapped to memory) keep decoding chars
+     */
+    public CSVImporterBuilder< BEAN > scanningBytes( boolean scanningBytes )
+    {
+        this.scanningBytes = scanningBytes;
+        return this;
+    }
+
+    /**
+     * Gzip sources are recognised by their first bytes and inflated on the fly (blocked gzip in parallel), on by
+     * default; compressed files can't be mapped to memory, sought nor resumed from a checkpoint
+     */
+    public CSVImporterBuilder< BEAN > decompressing( boolean decompressing )
+    {
+        this.decompressing = decompressing;
+        return this;
+    }
+
+    /**
+     * Every how many rows the row index keeps an offset, seeking scans at most stride - 1 rows past it
+     */
+    public CSVImporterBuilder< BEAN > withRowIndexStride( int rowIndexStride )
+    {
+        if( rowIndexStride <= 0 ) throw new IllegalArgumentException( "row index stride should be bigger than 0" );
+        this.rowIndexStride = rowIndexStride;
+        return this;
+    }
+
+    /**
+     * The header of every file is read and its columns bound to the bean by name, once per file, so columns may
+     * come in any order, extra ones are ignored and missing ones are left as the factory built them; replaces
+     * skipping and verifying the header
+     */
+    public CSVImporterBuilder< BEAN > bindingHeaderByName( boolean bindingHeaderByName )
+    {
+        this.bindingHeaderByName = bindingHeaderByName;
+        return this;
+    }
+
+    /**
+     * Beans are built through the constructor taking every column by position (same order as the column indexes)
+     * instead of the factory and field writes, so the bean factory and the bean ring are not used
+     */
+    public CSVImporterBuilder< BEAN > constructingByPosition( boolean constructingByPosition )
+    {
+        this.constructingByPosition = constructingByPosition;
+        return this;
+    }
+
+    /**
+     * Number of beans {@link CSVImporter.CSVReader#readEach} cycles through, a consumer holding on to the last N
+     * beans needs a ring of at least N + 1
+     */
+    public CSVImporterBuilder< BEAN > withBeanRingSize( int beanRingSize )
+    {
+        if( beanRingSize <= 0 ) throw new IllegalArgumentException( "bean ring size should be bigger than 0" );
+        this.beanRingSize = beanRingSize;
+        return this;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Inner Classes And Patterns
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
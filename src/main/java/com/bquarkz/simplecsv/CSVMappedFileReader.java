@@ -0,0 +1,193 @@
+package com.bquarkz.simplecsv;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+class CSVMappedFileReader extends Reader
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final int REMAP_THRESHOLD = 8; // bigger than any partial multi-byte sequence
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final long fileSize;
+    private final long windowSize;
+    private final CharsetDecoder decoder;
+    private final boolean asciiCompatible;
+    private final boolean latin1;
+
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    CSVMappedFileReader( String inputFilename, Charset charset ) throws FileNotFoundException
+    {
+        this( inputFilename, charset, DEFAULT_WINDOW_SIZE );
+    }
+
+    CSVMappedFileReader( String inputFilename, Charset charset, long windowSize ) throws FileNotFoundException
+    {
+        if( windowSize < REMAP_THRESHOLD || windowSize > Integer.MAX_VALUE )
+        {
+            throw new IllegalArgumentException( "window size should be between " + REMAP_THRESHOLD + " and " + Integer.MAX_VALUE );
+        }
+
+        this.channel = new RandomAccessFile( inputFilename, "r" ).getChannel();
+        try
+        {
+            this.fileSize = channel.size();
+        }
+        catch( IOException e )
+        {
+            closeQuietly();
+            final FileNotFoundException exception = new FileNotFoundException( "unable to read size of " + inputFilename );
+            exception.initCause( e );
+            throw exception;
+        }
+        this.windowSize = windowSize;
+        this.decoder = charset
+                .newDecoder()
+                .onMalformedInput( CodingErrorAction.REPLACE )
+                .onUnmappableCharacter( CodingErrorAction.REPLACE );
+        this.latin1 = charset.equals( StandardCharsets.ISO_8859_1 );
+        this.asciiCompatible = latin1
+                || charset.equals( StandardCharsets.UTF_8 )
+                || charset.equals( StandardCharsets.US_ASCII );
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private void shouldStillOpen() throws IOException
+    {
+        if( channel == null ) throw new IOException( "Stream closed" );
+    }
+
+    @Override
+    public int read( char[] chars, int offset, int length ) throws IOException
+    {
+        shouldStillOpen();
+        if( length == 0 ) return 0;
+
+        final CharBuffer out = CharBuffer.wrap( chars, offset, length );
+        while( out.hasRemaining() && ensureWindow() )
+        {
+            if( asciiCompatible )
+            {
+                copySingleByteChars( out );
+            }
+
+            if( out.hasRemaining() && window.hasRemaining() )
+            {
+                final CoderResult result = decoder.decode( window, out, isLastWindow() );
+                if( result.isOverflow() ) break;
+            }
+        }
+
+        final int read = out.position() - offset;
+        return read == 0 ? -1 : read;
+    }
+
+    /**
+     * Copies bytes straight from the mapped region while they are plain ASCII (or any byte for ISO-8859-1)
+     */
+    private void copySingleByteChars( CharBuffer out )
+    {
+        final char[] chars = out.array();
+        final int limit = window.limit();
+        final int outLimit = out.arrayOffset() + out.limit();
+        int posix = window.position();
+        int outPosix = out.arrayOffset() + out.position();
+        while( outPosix < outLimit && posix < limit )
+        {
+            final byte b = window.get( posix );
+            if( b < 0 && !latin1 ) break;
+            chars[ outPosix++ ] = (char)( b & 0xFF );
+            posix++;
+        }
+        window.position( posix );
+        out.position( outPosix - out.arrayOffset() );
+    }
+
+    private boolean isLastWindow()
+    {
+        return windowStart + window.limit() >= fileSize;
+    }
+
+    /**
+     * Maps the next window once the current one is (almost) consumed, it starts on the first unconsumed byte so a
+     * multi-byte sequence split by the window boundary is decoded as a whole
+     */
+    private boolean ensureWindow() throws IOException
+    {
+        if( window != null && ( window.remaining() >= REMAP_THRESHOLD || isLastWindow() ) )
+        {
+            return window.hasRemaining();
+        }
+
+        final long start = window == null ? 0 : windowStart + window.position();
+        if( start >= fileSize ) return false;
+        windowStart = start;
+        window = channel.map( FileChannel.MapMode.READ_ONLY, start, Math.min( windowSize, fileSize - start ) );
+        return window.hasRemaining();
+    }
+
+    private void closeQuietly()
+    {
+        try
+        {
+            channel.close();
+        }
+        catch( IOException ignored )
+        {
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if( channel == null ) return;
+        try
+        {
+            channel.close();
+        }
+        finally
+        {
+            channel = null;
+            window = null;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Inner Classes And Patterns
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+}
@@ -1,5 +1,11 @@
 package com.bquarkz.simplecsv;
 
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 
 public interface CSVParser< BEAN >
@@ -15,6 +21,189 @@ public interface CSVParser< BEAN >
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Default Methods
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    default int indexOfHeader( String columnName )
+    {
+        final String[] headers = getCSVHeaders();
+        for( int i = 0; i < headers.length; i++ )
+        {
+            if( headers[ i ].equals( columnName ) ) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Resolves the mappings by column name once, the result is indexed as {@link #getCSVHeaders()} and columns
+     * without mapping are null
+     */
+    default MapperBean[] indexBeanMappers( MappingBean... mappings )
+    {
+        final MapperBean[] mappers = new MapperBean[ getCSVHeaders().length ];
+        if( mappings == null ) return mappers;
+        for( final MappingBean mapping : mappings )
+        {
+            final int index = indexOfHeader( mapping.columnName() );
+            if( index >= 0 ) mappers[ index ] = mapping.mapper();
+        }
+        return mappers;
+    }
+
+    /**
+     * Binds only the named columns, the result is indexed as {@link #getCSVHeaders()} and holds the row field each
+     * column is read from, -1 for the columns left out
+     */
+    default int[] bindColumns( String... columns )
+    {
+        final int[] binding = new int[ getCSVHeaders().length ];
+        Arrays.fill( binding, -1 );
+        for( final String column : columns )
+        {
+            final int index = indexOfHeader( column );
+            if( index < 0 ) throw new ExceptionCSVBeanConfiguration( "unknown column [ " + column + " ]" );
+            binding[ index ] = index;
+        }
+        return binding;
+    }
+
+    /**
+     * Resolves the mappings by column name once, the result is indexed as {@link #getCSVHeaders()} and columns
+     * without mapping are null
+     */
+    default MapperCSV[] indexCSVMappers( MappingCSV... mappings )
+    {
+        final MapperCSV[] mappers = new MapperCSV[ getCSVHeaders().length ];
+        if( mappings == null ) return mappers;
+        for( final MappingCSV mapping : mappings )
+        {
+            final int index = indexOfHeader( mapping.columnName() );
+            if( index >= 0 ) mappers[ index ] = mapping.mapper();
+        }
+        return mappers;
+    }
+
+    default String toCSV( BEAN bean, CSVDelimiters delimiters, MapperCSV[] mappers ) throws ExceptionCSVMapping
+    {
+        final String[] headers = getCSVHeaders();
+        final List< MappingCSV > mappings = new ArrayList<>();
+        for( int i = 0; i < mappers.length; i++ )
+        {
+            if( mappers[ i ] != null ) mappings.add( MappingCSV.mapping( headers[ i ], mappers[ i ] ) );
+        }
+        return toCSV( bean, delimiters, mappings.toArray( new MappingCSV[ mappings.size() ] ) );
+    }
+
+    /**
+     * Writes the bean as a CSV row (without row delimiter) straight into the appender
+     */
+    default void appendCSV( BEAN bean, CSVDelimiters delimiters, MapperCSV[] mappers, CSVAppender appender ) throws ExceptionCSVMapping, IOException
+    {
+        appender.append( toCSV( bean, delimiters, mappers ) );
+    }
+
+    /**
+     * Writes the current row of the result set as a CSV row (without row delimiter), the result set columns are
+     * taken by position, in the same order as {@link #getCSVHeaders()}
+     */
+    default void appendCSV( ResultSet rs, CSVDelimiters delimiters, MapperCSV[] mappers, CSVAppender appender ) throws ExceptionCSVMapping, SQLException, IOException
+    {
+        final String[] headers = getCSVHeaders();
+        for( int i = 0; i < headers.length; i++ )
+        {
+            if( i > 0 ) appender.append( delimiters.getColumn() );
+            final Object value = rs.getObject( i + 1 );
+            try
+            {
+                final String mappedValue = value == null ? null : mappers[ i ] == null ? value.toString() : mappers[ i ].map( value );
+                appender.append( CSVUtils.embrace( delimiters.getContent(), mappedValue ) );
+            }
+            catch( IOException e )
+            {
+                throw e;
+            }
+            catch( Exception e )
+            {
+                throw new ExceptionCSVMapping( e );
+            }
+        }
+    }
+
+    default BEAN toBean( String csv, CSVDelimiters delimiters, Supplier< BEAN > factory, MapperBean[] mappers ) throws ExceptionCSVMapping
+    {
+        final String[] headers = getCSVHeaders();
+        final List< MappingBean > mappings = new ArrayList<>();
+        for( int i = 0; i < mappers.length; i++ )
+        {
+            if( mappers[ i ] != null ) mappings.add( MappingBean.mapping( headers[ i ], mappers[ i ] ) );
+        }
+        return toBean( csv, delimiters, factory, mappings.toArray( new MappingBean[ mappings.size() ] ) );
+    }
+
+
+    default BEAN toBean( CSVBufferedReader.Row row, CSVDelimiters delimiters, Supplier< BEAN > factory, MapperBean[] mappers ) throws ExceptionCSVMapping
+    {
+        return toBean( row.getRowContent(), delimiters, factory, mappers );
+    }
+
+    /**
+     * Binds the columns by name against the header found on the file, the result is indexed as
+     * {@link #getCSVHeaders()} and holds the file column each one is read from, -1 for the columns missing on it
+     */
+    default int[] bindHeader( String[] fileHeaders )
+    {
+        final String[] headers = getCSVHeaders();
+        final int[] binding = new int[ headers.length ];
+        boolean bound = false;
+        for( int i = 0; i < headers.length; i++ )
+        {
+            binding[ i ] = -1;
+            for( int j = 0; j < fileHeaders.length; j++ )
+            {
+                if( headers[ i ].equals( fileHeaders[ j ] ) )
+                {
+                    binding[ i ] = j;
+                    bound = true;
+                    break;
+                }
+            }
+        }
+        if( !bound ) throw new ExceptionCSVBeanConfiguration( "header doesn't fit" );
+        return binding;
+    }
+
+    /**
+     * Beans with final columns can only be built through {@link #findPositionalConstructor(Class)}
+     */
+    default boolean hasReadOnlyColumns()
+    {
+        return false;
+    }
+
+    /**
+     * Constructor taking every column by position, in the same order as {@link #getCSVHeaders()}
+     */
+    default CSVBeanConstructor< BEAN > findPositionalConstructor( Class< BEAN > beanClass )
+    {
+        throw new ExceptionCSVBeanConfiguration( "parser can't build beans by constructor: " + getClass().getSimpleName() );
+    }
+
+    /**
+     * Builds the bean through its positional constructor, columns bound to -1 (see {@link #bindColumns(String...)})
+     * get the default value of their type, a null binding maps all of them; rows of a positional binding should be
+     * as wide as the header, a binding by name (see {@link #bindHeader(String[])}) takes any width
+     */
+    default BEAN toBean( CSVBufferedReader.Row row, CSVDelimiters delimiters, CSVBeanConstructor< BEAN > constructor, MapperBean[] mappers, int[] binding, boolean positional ) throws ExceptionCSVMapping
+    {
+        throw new ExceptionCSVBeanConfiguration( "parser can't build beans by constructor: " + getClass().getSimpleName() );
+    }
+
+    /**
+     * Maps only the bound columns (see {@link #bindColumns(String...)}), parsers not able to leave columns out map
+     * all of them; rows of a positional binding should be as wide as the header, a binding by name (see
+     * {@link #bindHeader(String[])}) takes any width
+     */
+    default BEAN toBean( CSVBufferedReader.Row row, CSVDelimiters delimiters, Supplier< BEAN > factory, MapperBean[] mappers, int[] binding, boolean positional ) throws ExceptionCSVMapping
+    {
+        return toBean( row, delimiters, factory, mappers );
+    }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Contracts
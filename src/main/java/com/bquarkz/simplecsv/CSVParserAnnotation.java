@@ -1,18 +1,12 @@
 package com.bquarkz.simplecsv;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.bquarkz.simplecsv.CSVUtils.splitOnColumns;
-import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toMap;
 
 public class CSVParserAnnotation< BEAN >
         implements CSVParser< BEAN >
@@ -20,6 +14,12 @@ public class CSVParserAnnotation< BEAN >
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constants
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final int KIND_INT = 0;
+    private static final int KIND_LONG = 1;
+    private static final int KIND_DOUBLE = 2;
+    private static final int KIND_BOOLEAN = 3;
+    private static final int KIND_STRING = 4;
+    private static final int KIND_OBJECT = 5;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Special Fields And Injections
@@ -30,9 +30,10 @@ public class CSVParserAnnotation< BEAN >
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     private final String[] headers;
     private final CSVParserDetails parserDetails;
-    private final List< Field > columnFields;
-    private final Map< String, Field > fieldsMap;
+    private final CSVColumnAccessor[] accessors;
     private final CSVAutoMapper autoMapper;
+    private final boolean primitiveFastPath;
+    private final int[] columnKinds;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constructors
@@ -45,6 +46,8 @@ public class CSVParserAnnotation< BEAN >
     CSVParserAnnotation( Class< BEAN > classBean, CSVAutoMapper autoMapper )
     {
         this.autoMapper = autoMapper;
+        this.primitiveFastPath = autoMapper instanceof CSVBaseAutoMapper
+                && ( (CSVBaseAutoMapper)autoMapper ).hasPrimitiveFastPath();
 
         CSVBean bean = classBean.getAnnotation( CSVBean.class );
         if( bean == null )
@@ -54,28 +57,24 @@ public class CSVParserAnnotation< BEAN >
                     + classBean.getSimpleName() );
         }
 
-        columnFields = Stream
-                .of( classBean.getDeclaredFields() )
-                .filter( f -> ( f.getModifiers() & ( Modifier.FINAL | Modifier.STATIC ) ) == 0 )
-                .filter( f -> f.isAnnotationPresent( CSVColumn.class ) )
-                .sorted( Comparator.comparingInt( f -> f.getAnnotation( CSVColumn.class ).column() ) )
-                .collect( Collectors.toList() );
+        accessors = CSVColumnAccessor.of( classBean );
 
-        if( columnFields.isEmpty() )
+        if( accessors.length == 0 )
         {
             throw new ExceptionCSVBeanConfiguration( "No fields with annotation: "
                     + CSVColumn.class.getName() + " and "
                     + classBean.getSimpleName() + " should not be empty" );
         }
 
-        headers = columnFields
-                .stream()
-                .map( this::columnNameMapper )
+        headers = Stream
+                .of( accessors )
+                .map( CSVColumnAccessor::getName )
                 .toArray( String[]::new );
 
-        fieldsMap = columnFields
-                .stream()
-                .collect( Collectors.toMap( this::columnNameMapper, f -> f ) );
+        columnKinds = Stream
+                .of( accessors )
+                .mapToInt( accessor -> kindOf( accessor.getType() ) )
+                .toArray();
 
         parserDetails = new CSVParserDetails( bean );
     }
@@ -84,6 +83,16 @@ public class CSVParserAnnotation< BEAN >
     // Factories
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    private static int kindOf( Class< ? > type )
+    {
+        if( type == int.class || type == Integer.class ) return KIND_INT;
+        if( type == long.class || type == Long.class ) return KIND_LONG;
+        if( type == double.class || type == Double.class ) return KIND_DOUBLE;
+        if( type == boolean.class || type == Boolean.class ) return KIND_BOOLEAN;
+        if( type == String.class ) return KIND_STRING;
+        return KIND_OBJECT;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Getters And Setters
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -91,19 +100,6 @@ public class CSVParserAnnotation< BEAN >
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Methods
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    private String columnNameMapper( Field field )
-    {
-        final String name = field.getAnnotation( CSVColumn.class ).name();
-        if( name.trim().isEmpty() )
-        {
-            return field.getName();
-        }
-        else
-        {
-            return name;
-        }
-    }
-
     @Override
     public CSVParserDetails getParserDetails()
     {
@@ -122,23 +118,26 @@ public class CSVParserAnnotation< BEAN >
             final CSVDelimiters delimiters,
             final MappingCSV... mappings ) throws ExceptionCSVMapping
     {
-        final Map< String, MapperCSV > maps = Stream
-                .of( mappings )
-                .collect( toMap( MappingCSV::columnName, MappingCSV::mapper ) );
+        return toCSV( bean, delimiters, indexCSVMappers( mappings ) );
+    }
 
-        final List< String > contents = new ArrayList<>();
-        for( final Field field : columnFields )
+    @Override
+    public String toCSV(
+            final BEAN bean,
+            final CSVDelimiters delimiters,
+            final MapperCSV[] mappers ) throws ExceptionCSVMapping
+    {
+        final String[] contents = new String[ accessors.length ];
+        for( int i = 0; i < accessors.length; i++ )
         {
-            field.setAccessible( true );
-            final MapperCSV mapper = ofNullable( maps.get( columnNameMapper( field ) ) ).orElse( Object::toString );
+            final MapperCSV mapper = mappers[ i ];
             try
             {
-                final Object value = field.get( bean );
-                final String mappedValue = value == null ? null : mapper.map( value );
-                final String content = CSVUtils.embrace( delimiters.getContent(), mappedValue );
-                contents.add( content );
+                final Object value = accessors[ i ].get( bean );
+                final String mappedValue = value == null ? null : mapper == null ? value.toString() : mapper.map( value );
+                contents[ i ] = CSVUtils.embrace( delimiters.getContent(), mappedValue );
             }
-            catch( IllegalArgumentException | IllegalAccessException e )
+            catch( ClassCastException e )
             {
                 throw new ExceptionCSVMapping( "bean configuration problem", e );
             }
@@ -147,7 +146,240 @@ public class CSVParserAnnotation< BEAN >
                 throw new ExceptionCSVMapping( e );
             }
         }
-        return String.join( delimiters.getColumn(), contents.toArray( new String[ contents.size() ] ) );
+        return String.join( delimiters.getColumn(), contents );
+    }
+
+    @Override
+    public void appendCSV(
+            final BEAN bean,
+            final CSVDelimiters delimiters,
+            final MapperCSV[] mappers,
+            final CSVAppender appender ) throws ExceptionCSVMapping, IOException
+    {
+        final String content = delimiters.getContent();
+        final String column = delimiters.getColumn();
+        for( int i = 0; i < accessors.length; i++ )
+        {
+            if( i > 0 ) appender.append( column );
+            appendColumn( bean, i, content, mappers[ i ], appender );
+        }
+    }
+
+    /**
+     * Same text as {@link #toCSV(Object, CSVDelimiters, MapperCSV[])} gives for the column, but numbers, booleans
+     * and strings are appended without intermediate objects
+     */
+    private void appendColumn(
+            final BEAN bean,
+            final int index,
+            final String content,
+            final MapperCSV mapper,
+            final CSVAppender appender ) throws ExceptionCSVMapping, IOException
+    {
+        final CSVColumnAccessor accessor = accessors[ index ];
+        if( content != null ) appender.append( content );
+        if( mapper == null && accessor.hasPrimitiveGetter() )
+        {
+            appendPrimitive( bean, accessor, appender );
+        }
+        else
+        {
+            final Object value = accessor.get( bean );
+            final Object mappedValue = value == null || mapper == null ? value : mapValue( mapper, value );
+            if( mappedValue != null )
+            {
+                appendValue( mappedValue, appender );
+            }
+            else if( content == null )
+            {
+                appender.append( (String)null ); // an embraced null is an empty content, a bare one is "null"
+            }
+        }
+        if( content != null ) appender.append( content );
+    }
+
+    private void appendPrimitive(
+            final BEAN bean,
+            final CSVColumnAccessor accessor,
+            final CSVAppender appender ) throws IOException
+    {
+        final Class< ? > type = accessor.getType();
+        if( type == int.class )
+        {
+            appender.appendInt( accessor.getInt( bean ) );
+        }
+        else if( type == long.class )
+        {
+            appender.appendLong( accessor.getLong( bean ) );
+        }
+        else if( type == double.class )
+        {
+            appender.append( Double.toString( accessor.getDouble( bean ) ) );
+        }
+        else
+        {
+            appender.appendBoolean( accessor.getBoolean( bean ) );
+        }
+    }
+
+    private static void appendValue( final Object value, final CSVAppender appender ) throws IOException
+    {
+        if( value instanceof String )
+        {
+            appender.append( (String)value );
+        }
+        else if( value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte )
+        {
+            appender.appendLong( ( (Number)value ).longValue() );
+        }
+        else if( value instanceof Boolean )
+        {
+            appender.appendBoolean( (Boolean)value );
+        }
+        else
+        {
+            appender.append( value.toString() );
+        }
+    }
+
+    /**
+     * Result set column i + 1 goes to the column i, read through the typed getter of the field type, a primitive
+     * field never writes null (as the bean would hold 0 or false)
+     */
+    @Override
+    public void appendCSV(
+            final ResultSet rs,
+            final CSVDelimiters delimiters,
+            final MapperCSV[] mappers,
+            final CSVAppender appender ) throws ExceptionCSVMapping, SQLException, IOException
+    {
+        final String content = delimiters.getContent();
+        final String column = delimiters.getColumn();
+        for( int i = 0; i < columnKinds.length; i++ )
+        {
+            if( i > 0 ) appender.append( column );
+            if( content != null ) appender.append( content );
+            if( mappers[ i ] == null )
+            {
+                appendResultSetColumn( rs, i, content, appender );
+            }
+            else
+            {
+                final Object value = readResultSetColumn( rs, i );
+                final String mappedValue = value == null ? null : mapValue( mappers[ i ], value );
+                if( mappedValue != null )
+                {
+                    appender.append( mappedValue );
+                }
+                else if( content == null )
+                {
+                    appender.append( (String)null );
+                }
+            }
+            if( content != null ) appender.append( content );
+        }
+    }
+
+    private void appendResultSetColumn(
+            final ResultSet rs,
+            final int index,
+            final String content,
+            final CSVAppender appender ) throws SQLException, IOException
+    {
+        final int position = index + 1;
+        final boolean nullable = !accessors[ index ].getType().isPrimitive();
+        switch( columnKinds[ index ] )
+        {
+            case KIND_INT:
+            {
+                final int value = rs.getInt( position );
+                if( nullable && rs.wasNull() ) appendNull( content, appender );
+                else appender.appendInt( value );
+                break;
+            }
+            case KIND_LONG:
+            {
+                final long value = rs.getLong( position );
+                if( nullable && rs.wasNull() ) appendNull( content, appender );
+                else appender.appendLong( value );
+                break;
+            }
+            case KIND_DOUBLE:
+            {
+                final double value = rs.getDouble( position );
+                if( nullable && rs.wasNull() ) appendNull( content, appender );
+                else appender.append( Double.toString( value ) );
+                break;
+            }
+            case KIND_BOOLEAN:
+            {
+                final boolean value = rs.getBoolean( position );
+                if( nullable && rs.wasNull() ) appendNull( content, appender );
+                else appender.appendBoolean( value );
+                break;
+            }
+            case KIND_STRING:
+            {
+                final String value = rs.getString( position );
+                if( value == null ) appendNull( content, appender );
+                else appender.append( value );
+                break;
+            }
+            default:
+            {
+                final Object value = rs.getObject( position );
+                if( value == null ) appendNull( content, appender );
+                else appender.append( value.toString() );
+            }
+        }
+    }
+
+    private Object readResultSetColumn( final ResultSet rs, final int index ) throws SQLException
+    {
+        final int position = index + 1;
+        final Object value;
+        switch( columnKinds[ index ] )
+        {
+            case KIND_INT:
+                value = rs.getInt( position );
+                break;
+            case KIND_LONG:
+                value = rs.getLong( position );
+                break;
+            case KIND_DOUBLE:
+                value = rs.getDouble( position );
+                break;
+            case KIND_BOOLEAN:
+                value = rs.getBoolean( position );
+                break;
+            case KIND_STRING:
+                value = rs.getString( position );
+                break;
+            default:
+                value = rs.getObject( position );
+        }
+        return accessors[ index ].getType().isPrimitive() || !rs.wasNull() ? value : null;
+    }
+
+    private static void appendNull( final String content, final CSVAppender appender ) throws IOException
+    {
+        if( content == null ) appender.append( (String)null ); // an embraced null is an empty content
+    }
+
+    private static String mapValue( final MapperCSV mapper, final Object value ) throws ExceptionCSVMapping
+    {
+        try
+        {
+            return mapper.map( value );
+        }
+        catch( ClassCastException e )
+        {
+            throw new ExceptionCSVMapping( "bean configuration problem", e );
+        }
+        catch( Exception e )
+        {
+            throw new ExceptionCSVMapping( e );
+        }
     }
 
     @Override
@@ -157,10 +389,16 @@ public class CSVParserAnnotation< BEAN >
             final Supplier< BEAN > factory,
             final MappingBean... mappings ) throws ExceptionCSVMapping
     {
-        final Map< String, MapperBean > maps = Stream
-                .of( mappings )
-                .collect( toMap( MappingBean::columnName, MappingBean::mapper ) );
+        return toBean( csv, delimiters, factory, indexBeanMappers( mappings ) );
+    }
 
+    @Override
+    public BEAN toBean(
+            final String csv,
+            final CSVDelimiters delimiters,
+            final Supplier< BEAN > factory,
+            final MapperBean[] mappers ) throws ExceptionCSVMapping
+    {
         final String[] contents = splitOnColumns( csv, delimiters.getContent(), delimiters.getColumn() );
         if( contents.length != headers.length )
         {
@@ -170,38 +408,209 @@ public class CSVParserAnnotation< BEAN >
         final BEAN bean = factory.get();
         for( int i = 0; i < headers.length; i++ )
         {
-            final String header = headers[ i ];
-            final String content = CSVUtils.desembrace( delimiters.getContent(), contents[ i ] );
+            mapColumn( bean, i, CSVUtils.desembrace( delimiters.getContent(), contents[ i ] ), delimiters, mappers[ i ] );
+        }
+        return bean;
+    }
 
-            final Field field = fieldsMap.get( header );
-            final MapperBean mapper = ofNullable( maps.get( header ) )
-                    .orElseGet( () -> csvContent -> autoMapper.map( field.getType(), delimiters.getContent(), csvContent ) );
-            try
+    @Override
+    public BEAN toBean(
+            final CSVBufferedReader.Row row,
+            final CSVDelimiters delimiters,
+            final Supplier< BEAN > factory,
+            final MapperBean[] mappers ) throws ExceptionCSVMapping
+    {
+        if( row.size() != headers.length )
+        {
+            throw new ExceptionCSVMapping( "number of columns on content doesn't fit header number of columns" );
+        }
+
+        final BEAN bean = factory.get();
+        for( int i = 0; i < headers.length; i++ )
+        {
+            mapField( bean, i, i, row, delimiters, mappers[ i ] );
+        }
+        return bean;
+    }
+
+    /**
+     * Columns bound to -1 are left as the factory built them, their fields are never desembraced nor mapped
+     */
+    @Override
+    public BEAN toBean(
+            final CSVBufferedReader.Row row,
+            final CSVDelimiters delimiters,
+            final Supplier< BEAN > factory,
+            final MapperBean[] mappers,
+            final int[] binding,
+            final boolean positional ) throws ExceptionCSVMapping
+    {
+        if( positional && row.size() != headers.length )
+        {
+            throw new ExceptionCSVMapping( "number of columns on content doesn't fit header number of columns" );
+        }
+
+        final BEAN bean = factory.get();
+        for( int i = 0; i < headers.length; i++ )
+        {
+            final int field = binding[ i ];
+            if( field < 0 ) continue;
+            if( field >= row.size() )
+            {
+                throw new ExceptionCSVMapping( "number of columns on content doesn't fit header number of columns" );
+            }
+            mapField( bean, i, field, row, delimiters, mappers[ i ] );
+        }
+        return bean;
+    }
+
+    @Override
+    public boolean hasReadOnlyColumns()
+    {
+        return Stream.of( accessors ).anyMatch( CSVColumnAccessor::isReadOnly );
+    }
+
+    @Override
+    public CSVBeanConstructor< BEAN > findPositionalConstructor( final Class< BEAN > beanClass )
+    {
+        return CSVBeanConstructor.byPosition( beanClass, Stream
+                .of( accessors )
+                .map( CSVColumnAccessor::getType )
+                .toArray( Class< ? >[]::new ) );
+    }
+
+    @Override
+    public BEAN toBean(
+            final CSVBufferedReader.Row row,
+            final CSVDelimiters delimiters,
+            final CSVBeanConstructor< BEAN > constructor,
+            final MapperBean[] mappers,
+            final int[] binding,
+            final boolean positional ) throws ExceptionCSVMapping
+    {
+        if( ( binding == null || positional ) && row.size() != headers.length )
+        {
+            throw new ExceptionCSVMapping( "number of columns on content doesn't fit header number of columns" );
+        }
+
+        final Object[] arguments = new Object[ headers.length ];
+        for( int i = 0; i < headers.length; i++ )
+        {
+            final int field = binding == null ? i : binding[ i ];
+            if( field < 0 )
             {
-                final Object object = mapper.map( content );
-                field.setAccessible( true );
-                field.set( bean, object );
+                arguments[ i ] = constructor.getDefault( i );
+                continue;
             }
-            catch( IllegalAccessException e )
+            if( field >= row.size() )
             {
-                // it probably will never happen... but anyways
-                throw new ExceptionCSVMapping( "problems with bean configuration for [ " + header + " ]", e );
+                throw new ExceptionCSVMapping( "number of columns on content doesn't fit header number of columns" );
             }
-            catch( Exception e )
+            arguments[ i ] = mapValue( i, field, row, delimiters, mappers[ i ] );
+        }
+        return constructor.newInstance( arguments );
+    }
+
+    private Object mapValue(
+            final int index,
+            final int field,
+            final CSVBufferedReader.Row row,
+            final CSVDelimiters delimiters,
+            final MapperBean mapper ) throws ExceptionCSVMapping
+    {
+        final Class< ? > type = accessors[ index ].getType();
+        try
+        {
+            if( mapper == null && primitiveFastPath && accessors[ index ].isPrimitiveColumn() )
             {
-                throw new ExceptionCSVMapping( "factory mapping does't fit for [ " + header + " ]", e );
+                if( type == int.class ) return row.getInt( field );
+                if( type == long.class ) return row.getLong( field );
+                if( type == double.class ) return row.getDouble( field );
+                return row.getBoolean( field );
             }
+            return mapper == null
+                    ? autoMapper.map( type, delimiters.getContent(), row.getField( field ) )
+                    : mapper.map( row.getField( field ) );
+        }
+        catch( Exception e )
+        {
+            throw new ExceptionCSVMapping( "factory mapping does't fit for [ " + headers[ index ] + " ]", e );
         }
+    }
 
-        return bean;
+    private void mapField(
+            final BEAN bean,
+            final int index,
+            final int field,
+            final CSVBufferedReader.Row row,
+            final CSVDelimiters delimiters,
+            final MapperBean mapper ) throws ExceptionCSVMapping
+    {
+        if( mapper == null && primitiveFastPath && accessors[ index ].hasPrimitiveSetter() )
+        {
+            mapPrimitiveColumn( bean, index, field, row );
+        }
+        else
+        {
+            mapColumn( bean, index, row.getField( field ), delimiters, mapper );
+        }
+    }
+
+    private void mapPrimitiveColumn(
+            final BEAN bean,
+            final int index,
+            final int field,
+            final CSVBufferedReader.Row row ) throws ExceptionCSVMapping
+    {
+        final CSVColumnAccessor accessor = accessors[ index ];
+        final Class< ? > type = accessor.getType();
+        try
+        {
+            if( type == int.class )
+            {
+                accessor.setInt( bean, row.getInt( field ) );
+            }
+            else if( type == long.class )
+            {
+                accessor.setLong( bean, row.getLong( field ) );
+            }
+            else if( type == double.class )
+            {
+                accessor.setDouble( bean, row.getDouble( field ) );
+            }
+            else
+            {
+                accessor.setBoolean( bean, row.getBoolean( field ) );
+            }
+        }
+        catch( Exception e )
+        {
+            throw new ExceptionCSVMapping( "factory mapping does't fit for [ " + headers[ index ] + " ]", e );
+        }
+    }
+
+    private void mapColumn(
+            final BEAN bean,
+            final int index,
+            final String content,
+            final CSVDelimiters delimiters,
+            final MapperBean mapper ) throws ExceptionCSVMapping
+    {
+        final CSVColumnAccessor accessor = accessors[ index ];
+        try
+        {
+            final Object object = mapper == null
+                    ? autoMapper.map( accessor.getType(), delimiters.getContent(), content )
+                    : mapper.map( content );
+            accessor.set( bean, object );
+        }
+        catch( Exception e )
+        {
+            throw new ExceptionCSVMapping( "factory mapping does't fit for [ " + headers[ index ] + " ]", e );
+        }
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Inner Classes And Patterns
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
-    private static class CSVField
-    {
-        private Class< ? > klass;
-        private Field field;
-    }
 }
@@ -0,0 +1,222 @@
+package com.bquarkz.simplecsv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the source on a background thread, filling the next chunk while the current one is consumed (N-buffering
+ * over a fixed set of chunks), so blocking reads and inflation overlap with decoding and bean mapping
+ */
+class CSVReadAheadInputStream extends InputStream
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private static final long CLOSE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos( 1 );
+
+    private static final Chunk END_OF_STREAM = new Chunk( null, -1, null );
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final InputStream source;
+    private final BlockingQueue< byte[] > free;
+    private final BlockingQueue< Chunk > filled;
+    private final Thread filler;
+
+    private volatile boolean closed;
+    private Chunk current;
+    private int posix;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    CSVReadAheadInputStream( InputStream source, int buffers )
+    {
+        this( source, buffers, DEFAULT_CHUNK_SIZE );
+    }
+
+    CSVReadAheadInputStream( InputStream source, int buffers, int chunkSize )
+    {
+        if( buffers < 2 ) throw new IllegalArgumentException( "read ahead needs at least 2 buffers" );
+        if( chunkSize <= 0 ) throw new IllegalArgumentException( "chunk size should be bigger than 0" );
+
+        this.source = source;
+        this.free = new ArrayBlockingQueue<>( buffers );
+        this.filled = new ArrayBlockingQueue<>( buffers + 1 ); // room for the end of stream mark
+        for( int i = 0; i < buffers; i++ )
+        {
+            free.add( new byte[ chunkSize ] );
+        }
+
+        this.filler = new Thread( this::fill, "simple-csv-read-ahead" );
+        this.filler.setDaemon( true );
+        this.filler.start();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Background loop: takes a free buffer, hands it over with whatever a single read of the source brought, as
+     * {@link java.io.BufferedInputStream} does, so a slow source is never held back until a whole chunk arrived
+     */
+    private void fill()
+    {
+        try
+        {
+            while( !closed )
+            {
+                final byte[] bytes = free.take();
+                int read;
+                do
+                {
+                    read = source.read( bytes, 0, bytes.length );
+                }
+                while( read == 0 );
+
+                if( read < 0 )
+                {
+                    filled.put( END_OF_STREAM );
+                    return;
+                }
+                filled.put( new Chunk( bytes, read, null ) );
+            }
+        }
+        catch( InterruptedException e )
+        {
+            // closed while waiting for a buffer
+        }
+        catch( IOException | RuntimeException e )
+        {
+            if( !closed ) filled.offer( new Chunk( null, -1, e ) );
+        }
+    }
+
+    private void shouldStillOpen() throws IOException
+    {
+        if( closed ) throw new IOException( "Stream closed" );
+    }
+
+    /**
+     * Makes sure there is something to read on the current chunk, returns false at the end of the stream
+     */
+    private boolean ensureChunk() throws IOException
+    {
+        if( current != null && posix < current.length ) return true;
+        if( current == END_OF_STREAM ) return false;
+
+        if( current != null ) free.offer( current.bytes );
+        try
+        {
+            current = filled.take();
+        }
+        catch( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException( "interrupted while waiting for the read ahead" );
+        }
+        posix = 0;
+
+        if( current.error != null )
+        {
+            final Exception error = current.error;
+            current = END_OF_STREAM;
+            throw error instanceof IOException ? (IOException)error : new IOException( error );
+        }
+        return current != END_OF_STREAM;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        shouldStillOpen();
+        if( !ensureChunk() ) return -1;
+        return current.bytes[ posix++ ] & 0xFF;
+    }
+
+    @Override
+    public int read( byte[] bytes, int offset, int length ) throws IOException
+    {
+        shouldStillOpen();
+        if( length == 0 ) return 0;
+        if( !ensureChunk() ) return -1;
+
+        final int n = Math.min( length, current.length - posix );
+        System.arraycopy( current.bytes, posix, bytes, offset, n );
+        posix += n;
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException
+    {
+        shouldStillOpen();
+        return current == null || current == END_OF_STREAM ? 0 : current.length - posix;
+    }
+
+    /**
+     * Stops the filler and waits for it to leave the source before closing it, few streams bear a close during a
+     * read; a filler still stuck after the wait, on a read deaf to interrupts, is released by the close itself
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if( closed ) return;
+        closed = true;
+        filler.interrupt();
+
+        boolean interrupted = false;
+        final long deadline = System.nanoTime() + CLOSE_TIMEOUT_NANOS;
+        long left;
+        while( filler.isAlive() && ( left = deadline - System.nanoTime() ) > 0 )
+        {
+            try
+            {
+                TimeUnit.NANOSECONDS.timedJoin( filler, left );
+            }
+            catch( InterruptedException e )
+            {
+                interrupted = true;
+            }
+        }
+        if( interrupted ) Thread.currentThread().interrupt();
+        source.close();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Inner Classes And Patterns
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private static final class Chunk
+    {
+        private final byte[] bytes;
+        private final int length;
+        private final Exception error;
+
+        Chunk( byte[] bytes, int length, Exception error )
+        {
+            this.bytes = bytes;
+            this.length = length;
+            this.error = error;
+        }
+    }
+}
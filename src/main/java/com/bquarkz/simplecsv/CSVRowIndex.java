@@ -0,0 +1,225 @@
+package com.bquarkz.simplecsv;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Sparse row offset index of a CSV file: the byte offset of every stride-th row after the header, so any row is
+ * reached by seeking to the closest indexed row and scanning at most stride - 1 rows; it is persisted on a sidecar
+ * file next to the CSV and rebuilt whenever the CSV (or the way it is read) changes
+ */
+public final class CSVRowIndex
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constants
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static final String SIDECAR_SUFFIX = ".rowidx";
+    static final int DEFAULT_STRIDE = 1024;
+
+    private static final int MAGIC = 0x53435649;
+    private static final int VERSION = 1;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Special Fields And Injections
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private final long fileLength;
+    private final long lastModified;
+    private final String signature;
+    private final int stride;
+    private final long rows;
+    private final long[] offsets;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    private CSVRowIndex( long fileLength, long lastModified, String signature, int stride, long rows, long[] offsets )
+    {
+        this.fileLength = fileLength;
+        this.lastModified = lastModified;
+        this.signature = signature;
+        this.stride = stride;
+        this.rows = rows;
+        this.offsets = offsets;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Factories
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Loads the sidecar index when it is still fresh, otherwise builds it with a scan over the file and persists
+     * it; a sidecar that can't be written is not an error, the index is just kept in memory
+     */
+    static CSVRowIndex forFile( File file, Charset charset, CSVDelimiters delimiters, int stride ) throws IOException
+    {
+        final CSVRowIndex loaded = load( file, charset, delimiters );
+        if( loaded != null && loaded.stride == stride ) return loaded;
+
+        final CSVRowIndex built = build( file, charset, delimiters, stride );
+        try
+        {
+            built.save( file );
+        }
+        catch( IOException e )
+        {
+            // read only location, the index still serves this reader
+        }
+        return built;
+    }
+
+    /**
+     * Scans the whole file on raw bytes, no field is ever decoded
+     */
+    static CSVRowIndex build( File file, Charset charset, CSVDelimiters delimiters, int stride ) throws IOException
+    {
+        if( stride <= 0 ) throw new IllegalArgumentException( "stride should be bigger than 0" );
+
+        final long fileLength = file.length();
+        final long lastModified = file.lastModified();
+        long[] offsets = new long[ 64 ];
+        long rows = 0;
+        try( final CSVBufferedReader reader = new CSVBufferedReader(
+                new FileInputStream( file ), charset, SCAN_BUFFER_SIZE, delimiters, false, false ) )
+        {
+            // the first row is the header, just as readers see it
+            final boolean hasHeader = reader._readNextRow() != null;
+            while( hasHeader )
+            {
+                final long position = reader.getPosition();
+                if( reader._readNextRow() == null ) break;
+                if( rows % stride == 0 )
+                {
+                    final int slot = (int)( rows / stride );
+                    if( slot == offsets.length ) offsets = Arrays.copyOf( offsets, offsets.length * 2 );
+                    offsets[ slot ] = position;
+                }
+                rows++;
+            }
+        }
+        final int slots = (int)( ( rows + stride - 1 ) / stride );
+        return new CSVRowIndex( fileLength, lastModified, signatureOf( charset, delimiters ), stride, rows, Arrays.copyOf( offsets, slots ) );
+    }
+
+    /**
+     * The persisted index, or null when there is none or it no longer fits the file
+     */
+    static CSVRowIndex load( File file, Charset charset, CSVDelimiters delimiters ) throws IOException
+    {
+        final File sidecar = sidecarOf( file );
+        if( !sidecar.isFile() ) return null;
+
+        try( final DataInputStream input = new DataInputStream( new BufferedInputStream( new FileInputStream( sidecar ) ) ) )
+        {
+            if( input.readInt() != MAGIC || input.readInt() != VERSION ) return null;
+            final long fileLength = input.readLong();
+            final long lastModified = input.readLong();
+            final String signature = input.readUTF();
+            if( fileLength != file.length()
+                    || lastModified != file.lastModified()
+                    || !signature.equals( signatureOf( charset, delimiters ) ) )
+            {
+                return null;
+            }
+
+            final int stride = input.readInt();
+            final long rows = input.readLong();
+            final long[] offsets = new long[ input.readInt() ];
+            for( int i = 0; i < offsets.length; i++ )
+            {
+                offsets[ i ] = input.readLong();
+            }
+            return new CSVRowIndex( fileLength, lastModified, signature, stride, rows, offsets );
+        }
+        catch( EOFException e )
+        {
+            return null; // truncated sidecar, built again
+        }
+    }
+
+    static File sidecarOf( File file )
+    {
+        return new File( file.getPath() + SIDECAR_SUFFIX );
+    }
+
+    private static String signatureOf( Charset charset, CSVDelimiters delimiters )
+    {
+        return String.join( "|",
+                charset.name(),
+                String.valueOf( delimiters.getColumn() ),
+                String.valueOf( delimiters.getRow() ),
+                String.valueOf( delimiters.getContent() ),
+                String.valueOf( delimiters.getComment() ) );
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Getters And Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Number of rows after the header
+     */
+    public long getRows()
+    {
+        return rows;
+    }
+
+    public int getStride()
+    {
+        return stride;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Closest indexed row at or before the given one, rows past the end fall on the last indexed row
+     */
+    long indexedRowOf( long row )
+    {
+        if( offsets.length == 0 ) return 0;
+        return Math.min( row / stride, offsets.length - 1 ) * (long)stride;
+    }
+
+    /**
+     * Byte offset of an indexed row (see {@link #indexedRowOf(long)}), the end of the file when there are no rows
+     */
+    long offsetOf( long indexedRow )
+    {
+        if( offsets.length == 0 ) return fileLength;
+        return offsets[ (int)( indexedRow / stride ) ];
+    }
+
+    void save( File file ) throws IOException
+    {
+        try( final DataOutputStream output = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( sidecarOf( file ) ) ) ) )
+        {
+            output.writeInt( MAGIC );
+            output.writeInt( VERSION );
+            output.writeLong( fileLength );
+            output.writeLong( lastModified );
+            output.writeUTF( signature );
+            output.writeInt( stride );
+            output.writeLong( rows );
+            output.writeInt( offsets.length );
+            for( long offset : offsets )
+            {
+                output.writeLong( offset );
+            }
+        }
+    }
+}
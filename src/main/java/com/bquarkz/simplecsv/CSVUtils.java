@@ -29,15 +29,20 @@ public interface CSVUtils
     }
 
     static boolean fromPosixStartsWithDelimiter( final char[] buffer, final int posix, final String content )
+    {
+        return buffer != null && fromPosixStartsWithDelimiter( buffer, posix, buffer.length, content );
+    }
+
+    static boolean fromPosixStartsWithDelimiter( final char[] buffer, final int posix, final int limit, final String content )
     {
         if( buffer == null ) return false;
         if( content == null || content.isEmpty() ) return true;
-        if( buffer.length < content.length() ) return false;
+        if( limit < content.length() ) return false;
 
         for( int index = 0; index < content.length(); index++ )
         {
             final int tempPosix = posix + index;
-            if( tempPosix >= buffer.length ) return false;
+            if( tempPosix >= limit ) return false;
             if( content.charAt( index ) != buffer[ tempPosix ] ) return false;
         }
         return true;
@@ -0,0 +1,78 @@
+package com.bquarkz.simplecsv;
+
+/**
+ * Predicate over the raw column content, already desembraced, evaluated straight on the row chars so rows can be
+ * discarded before any bean is built
+ */
+@FunctionalInterface
+public interface FilterField
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static FilterField equalTo( final String value )
+    {
+        final char[] expected = value.toCharArray();
+        return ( chars, start, end ) -> end - start == expected.length && regionMatches( chars, start, expected );
+    }
+
+    static FilterField startingWith( final String prefix )
+    {
+        final char[] expected = prefix.toCharArray();
+        return ( chars, start, end ) -> end - start >= expected.length && regionMatches( chars, start, expected );
+    }
+
+    /**
+     * Inclusive range over integral content, content that is not a number never matches
+     */
+    static FilterField between( final long min, final long max )
+    {
+        return ( chars, start, end ) -> {
+            try
+            {
+                final long value = CSVBaseAutoMapper.parseLong( chars, start, end );
+                return value >= min && value <= max;
+            }
+            catch( NumberFormatException e )
+            {
+                return false;
+            }
+        };
+    }
+
+    static boolean regionMatches( char[] chars, int start, char[] expected )
+    {
+        for( int i = 0; i < expected.length; i++ )
+        {
+            if( chars[ start + i ] != expected[ i ] ) return false;
+        }
+        return true;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Default Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    default FilterField and( final FilterField other )
+    {
+        return ( chars, start, end ) -> accept( chars, start, end ) && other.accept( chars, start, end );
+    }
+
+    default FilterField or( final FilterField other )
+    {
+        return ( chars, start, end ) -> accept( chars, start, end ) || other.accept( chars, start, end );
+    }
+
+    default FilterField negate()
+    {
+        return ( chars, start, end ) -> !accept( chars, start, end );
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Contracts
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    boolean accept( char[] chars, int start, int end );
+}
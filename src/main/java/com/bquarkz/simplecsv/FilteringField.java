@@ -0,0 +1,38 @@
+package com.bquarkz.simplecsv;
+
+public interface FilteringField
+{
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static fields
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    static FilteringField filtering( final String columnName, final FilterField filter )
+    {
+        return new FilteringField()
+        {
+            @Override
+            public String columnName()
+            {
+                return columnName;
+            }
+
+            @Override
+            public FilterField filter()
+            {
+                return filter;
+            }
+        };
+    }
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Default Methods
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Contracts
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    String columnName();
+    FilterField filter();
+}
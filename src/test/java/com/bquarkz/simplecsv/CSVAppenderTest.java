@@ -0,0 +1,47 @@
+package com.bquarkz.simplecsv;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+public class CSVAppenderTest
+{
+    @Test
+    public void test_GivenNumbers_ThenAppend_ShouldWriteAsToString() throws IOException
+    {
+        final long[] values = { 0, 7, -7, 9, 10, 99, 100, -100, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                999999999999999999L, 1000000000000000000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 };
+        final StringWriter writer = new StringWriter();
+        final CSVAppender appender = new CSVAppender( writer, 8 );
+        final StringBuilder expected = new StringBuilder();
+        for( long value : values )
+        {
+            appender.appendLong( value ).append( ';' );
+            expected.append( value ).append( ';' );
+        }
+        appender.appendInt( -42 ).appendBoolean( false );
+        expected.append( -42 ).append( false );
+        appender.endRow();
+        appender.flush();
+        Assert.assertEquals( expected.toString(), writer.toString() );
+    }
+
+    @Test
+    public void test_GivenRowsBiggerThanCapacity_ThenAppend_ShouldFlushOnlyCompleteRows() throws IOException
+    {
+        final StringWriter writer = new StringWriter();
+        final CSVAppender appender = new CSVAppender( writer, 4 );
+        appender.append( "first row" ).append( '\n' );
+        appender.endRow();
+        appender.append( "a broken row that grows the buffer" ).append( (String)null );
+        Assert.assertEquals( "first row\n", writer.toString() );
+
+        appender.discardRow();
+        appender.append( "last row" ).append( '\n' );
+        appender.endRow();
+        appender.flush();
+        Assert.assertEquals( "first row\nlast row\n", writer.toString() );
+    }
+}
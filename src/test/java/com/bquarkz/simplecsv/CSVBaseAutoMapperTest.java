@@ -91,6 +91,60 @@ public class CSVBaseAutoMapperTest
     }
 
 
+    @Test
+    public void test_GivePrimitiveContent_ThenAutoMapAsPrimitiveTypes_ShouldReturnTheBoxedValues()
+    {
+        final CSVAutoMapper autoMapper = new CSVBaseAutoMapper();
+        Assert.assertEquals( 123, autoMapper.map( int.class, "'", "'123'" ) );
+        Assert.assertEquals( 123L, autoMapper.map( long.class, "'", "'123'" ) );
+        Assert.assertEquals( 123.321, autoMapper.map( double.class, "'", "'123.321'" ) );
+        Assert.assertEquals( true, autoMapper.map( boolean.class, "'", "'TRUE'" ) );
+    }
+
+    @Test
+    public void test_GiveCharRanges_ThenParsePrimitives_ShouldBehaveAsTheJDKParsers()
+    {
+        final String[] longs = { "0", "-0", "+7", "123456789", "-9223372036854775808", "9223372036854775807" };
+        for( String content : longs )
+        {
+            final char[] chars = ( "xx" + content + "yy" ).toCharArray();
+            Assert.assertEquals( Long.parseLong( content ), CSVBaseAutoMapper.parseLong( chars, 2, chars.length - 2 ) );
+        }
+
+        final String[] doubles = { "0", "-0.0", "1.", ".5", "123.321", "0.1", "999999999999999", "1234567.891011121314",
+                "1e10", "-2.5E-3", "NaN", "Infinity" };
+        for( String content : doubles )
+        {
+            final char[] chars = content.toCharArray();
+            Assert.assertEquals( content, Double.doubleToLongBits( Double.parseDouble( content ) ),
+                    Double.doubleToLongBits( CSVBaseAutoMapper.parseDouble( chars, 0, chars.length ) ) );
+        }
+
+        Assert.assertTrue( CSVBaseAutoMapper.parseBoolean( "True".toCharArray(), 0, 4 ) );
+        Assert.assertFalse( CSVBaseAutoMapper.parseBoolean( "yes".toCharArray(), 0, 3 ) );
+    }
+
+    @Test( expected = NumberFormatException.class )
+    public void test_GiveIntegerOverflow_ThenParseInt_ShouldThrowException()
+    {
+        final char[] chars = "2147483648".toCharArray();
+        CSVBaseAutoMapper.parseInt( chars, 0, chars.length );
+    }
+
+    @Test( expected = NumberFormatException.class )
+    public void test_GiveNotANumber_ThenParseLong_ShouldThrowException()
+    {
+        final char[] chars = "12a".toCharArray();
+        CSVBaseAutoMapper.parseLong( chars, 0, chars.length );
+    }
+
+    @Test
+    public void test_GiveSubclassOverridingMap_ThenPrimitiveFastPath_ShouldBeDisabled()
+    {
+        Assert.assertTrue( new CSVBaseAutoMapper().hasPrimitiveFastPath() );
+        Assert.assertFalse( new TestMapper().hasPrimitiveFastPath() );
+    }
+
     @Test
     public void test_ExtendsCSVBaseAutoMapper()
     {
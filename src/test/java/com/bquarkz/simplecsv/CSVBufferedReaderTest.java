@@ -6,6 +6,8 @@ import org.junit.Test;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 public class CSVBufferedReaderTest
@@ -59,4 +61,151 @@ public class CSVBufferedReaderTest
             }
         }
     }
+
+    @Test
+    public void test_GivenCSVBufferedReader_WhenRowsAreBiggerThanBuffer_ShouldBeOk() throws IOException
+    {
+        try( final ByteArrayInputStream bais = new ByteArrayInputStream( CSV.getBytes( StandardCharsets.UTF_8 ) );
+             final InputStreamReader inputStreamReader = new InputStreamReader( bais, StandardCharsets.UTF_8 );
+             final CSVBufferedReader reader = new CSVBufferedReader( inputStreamReader, 8, new CSVDelimiters(), true ) )
+        {
+            for( String csv : CSVS )
+            {
+                Assert.assertEquals( csv, reader.readNextRow() );
+            }
+            Assert.assertNull( reader.readNextRow() );
+        }
+    }
+
+    @Test
+    public void test_GivenCSVBufferedReader_WhenThereAreCommentsAndMultiCharRowDelimiter_ShouldBeOk() throws IOException
+    {
+        final String csv = "#comment \"a\r\nb\"\r\n" + CSV_HEADER + "\r\n#comment\r\n\"multi\r\nline\";2\r\n\r\n" + CSV_1;
+        final CSVDelimiters delimiters = new CSVDelimiters( ";", "\r\n", "\"", "#" );
+        try( final ByteArrayInputStream bais = new ByteArrayInputStream( csv.getBytes( StandardCharsets.UTF_8 ) );
+             final InputStreamReader inputStreamReader = new InputStreamReader( bais, StandardCharsets.UTF_8 );
+             final CSVBufferedReader reader = new CSVBufferedReader( inputStreamReader, 16, delimiters, false ) )
+        {
+            final CSVBufferedReader.Row header = reader._readNextRow();
+            Assert.assertTrue( header.isHeader() );
+            Assert.assertEquals( CSV_HEADER, header.getRowContent() );
+            Assert.assertEquals( "\"multi\r\nline\";2", reader.readNextRow() );
+            Assert.assertEquals( CSV_1, reader.readNextRow() );
+            Assert.assertNull( reader.readNextRow() );
+        }
+    }
+
+    @Test
+    public void test_GivenCSVBufferedReader_ThenReadRows_ShouldSplitColumnsOnTheSamePass() throws IOException
+    {
+        try( final ByteArrayInputStream bais = new ByteArrayInputStream( CSV.getBytes( StandardCharsets.UTF_8 ) );
+             final InputStreamReader inputStreamReader = new InputStreamReader( bais, StandardCharsets.UTF_8 );
+             final CSVBufferedReader reader = new CSVBufferedReader( inputStreamReader, 16, new CSVDelimiters(), false ) )
+        {
+            final CSVBufferedReader.Row header = reader.nextRow();
+            Assert.assertEquals( 5, header.size() );
+            Assert.assertEquals( "SUPER-COLUMN-1", header.getField( 0 ) );
+            Assert.assertEquals( "INNER-COLUMN-5", header.getField( 4 ) );
+
+            final CSVBufferedReader.Row row = reader.nextRow();
+            Assert.assertEquals( 5, row.size() );
+            Assert.assertEquals( "prefix-----c1__1", row.getField( 0 ) );
+            Assert.assertEquals( "1;2;3;4", row.getField( 3 ) );
+            Assert.assertEquals( "inner 3;3", row.getField( 4 ) );
+            Assert.assertEquals( CSV_1, row.getRowContent() );
+        }
+    }
+
+    @Test
+    public void test_GivenCSVBufferedReader_ThenReadRows_ShouldSplitColumnsAsSplitOnColumns() throws IOException
+    {
+        final String[] csvs = { "'111';;'333';", "111;222;'333';444;'5;55'", "'1''11';'';x", ";a", "a;;" };
+        final CSVDelimiters delimiters = new CSVDelimiters( ";", "\n", "'", "#" );
+        try( final ByteArrayInputStream bais = new ByteArrayInputStream( String.join( "\n", csvs ).getBytes( StandardCharsets.UTF_8 ) );
+             final InputStreamReader inputStreamReader = new InputStreamReader( bais, StandardCharsets.UTF_8 );
+             final CSVBufferedReader reader = new CSVBufferedReader( inputStreamReader, 16, delimiters, false ) )
+        {
+            for( String csv : csvs )
+            {
+                final String[] expected = CSVUtils.splitOnColumns( csv, "'", ";" );
+                final CSVBufferedReader.Row row = reader.nextRow();
+                Assert.assertEquals( csv, expected.length, row.size() );
+                for( int i = 0; i < expected.length; i++ )
+                {
+                    Assert.assertEquals( csv, CSVUtils.desembrace( "'", expected[ i ] ), row.getField( i ) );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_GivenUnsynchronizedCSVBufferedReader_ThenReadRows_ShouldBeOk() throws IOException
+    {
+        try( final ByteArrayInputStream bais = new ByteArrayInputStream( CSV.getBytes( StandardCharsets.UTF_8 ) );
+             final InputStreamReader inputStreamReader = new InputStreamReader( bais, StandardCharsets.UTF_8 );
+             final CSVBufferedReader reader = new CSVBufferedReader( inputStreamReader, 8, new CSVDelimiters(), true, false ) )
+        {
+            for( String csv : CSVS )
+            {
+                Assert.assertEquals( csv, reader.readNextRow() );
+            }
+            Assert.assertNull( reader.readNextRow() );
+        }
+    }
+
+    @Test( expected = IOException.class )
+    public void test_GivenUnsynchronizedCSVBufferedReader_WhenClosed_ShouldThrowException() throws IOException
+    {
+        final CSVBufferedReader reader = new CSVBufferedReader( new StringReader( CSV ), 8, new CSVDelimiters(), true, false );
+        reader.close();
+        reader.readNextRow();
+    }
+
+    @Test
+    public void test_GivenCSVBufferedReaderOnBytes_ThenReadRows_ShouldMatchTheCharReader() throws IOException
+    {
+        final String csv = "#comment \"a\r\nb\"\r\n" + CSV_HEADER + "\r\n\"caf\u00e9 \u20ac\";\"42\";-9000000000;\"0.25\";TRUE\r\n"
+                + "\"multi\r\nline\";2\r\n\r\n" + CSV_1;
+        final CSVDelimiters delimiters = new CSVDelimiters( ";", "\r\n", "\"", "#" );
+        for( Charset charset : new Charset[]{ StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1 } )
+        {
+            final byte[] bytes = csv.getBytes( charset );
+            try( final CSVBufferedReader chars = new CSVBufferedReader( new InputStreamReader( new ByteArrayInputStream( bytes ), charset ), 8, delimiters, false );
+                 final CSVBufferedReader raw = new CSVBufferedReader( new ByteArrayInputStream( bytes ), charset, 8, delimiters, false, true ) )
+            {
+                CSVBufferedReader.Row expected;
+                while( ( expected = chars.nextRow() ) != null )
+                {
+                    final CSVBufferedReader.Row row = raw.nextRow();
+                    Assert.assertEquals( expected.isHeader(), row.isHeader() );
+                    Assert.assertEquals( expected.getRowContent(), row.getRowContent() );
+                    Assert.assertEquals( expected.size(), row.size() );
+                    for( int i = 0; i < expected.size(); i++ )
+                    {
+                        Assert.assertEquals( expected.getField( i ), row.getField( i ) );
+                    }
+                }
+                Assert.assertNull( raw.nextRow() );
+            }
+
+            try( final CSVBufferedReader raw = new CSVBufferedReader( new ByteArrayInputStream( bytes ), charset, 8, delimiters, true, true ) )
+            {
+                final CSVBufferedReader.Row row = raw.nextRow();
+                Assert.assertTrue( row.matches( 0, FilterField.startingWith( "caf\u00e9 " ) ) );
+                Assert.assertEquals( 42, row.getInt( 1 ) );
+                Assert.assertEquals( -9000000000L, row.getLong( 2 ) );
+                Assert.assertEquals( 0.25, row.getDouble( 3 ), 0.0 );
+                Assert.assertTrue( row.getBoolean( 4 ) );
+            }
+        }
+    }
+
+    @Test
+    public void test_GivenCharsetsAndDelimiters_ThenCheckBytesCanBeScanned_ShouldOnlyAcceptAsciiCompatibleSetups()
+    {
+        Assert.assertTrue( CSVBufferedReader.canScanBytes( StandardCharsets.UTF_8, new CSVDelimiters() ) );
+        Assert.assertTrue( CSVBufferedReader.canScanBytes( StandardCharsets.ISO_8859_1, new CSVDelimiters() ) );
+        Assert.assertFalse( CSVBufferedReader.canScanBytes( StandardCharsets.UTF_16, new CSVDelimiters() ) );
+        Assert.assertFalse( CSVBufferedReader.canScanBytes( StandardCharsets.UTF_8, new CSVDelimiters( "\u00a7", "\n", "\"", "#" ) ) );
+    }
 }
@@ -91,6 +91,43 @@ public class CSVBuilderTest
         }
     }
 
+    @Test
+    public void test_GivenExporterWritingInParallel_ThenWriteStream_ShouldKeepOrder() throws IOException
+    {
+        final int rows = 5000;
+        final StringBuilder expected = new StringBuilder( CSV.substring( 0, CSV.indexOf( '\n' ) + 1 ) );
+        for( int i = 0; i < rows; i++ )
+        {
+            expected.append( csvRow( i ) );
+        }
+
+        final CSVExporter< Bean > exporter = CSVBuilder
+                .newExporter( Bean.class )
+                .ignoringErrors( false )
+                .writingInParallel( true )
+                .withChunkSize( 64 )
+                .withMappings(
+                        MappingCSV.mapping( COLUMN_1, o -> PREFIX + o ),
+                        MappingCSV.mapping( COLUMN_2, o -> o + SUFFIX ),
+                        MappingCSV.mapping( COLUMN_4, o -> ( (List<Integer>)o )
+                                .stream()
+                                .map( Object::toString )
+                                .collect( Collectors.joining( ";" ) ) ),
+                        MappingCSV.mapping( COLUMN_5, o -> {
+                            InnerBean ib = (InnerBean)o;
+                            return ib.getStringField() + ";" + ib.getIntegerField();
+                        } )
+                )
+                .build();
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try( final CSVExporter< Bean >.CSVWriter writer = exporter.toOutputStream( baos ) )
+        {
+            writer.write( Stream.iterate( 0, i -> i + 1 ).limit( rows ).map( Bean::new ) );
+        }
+        Assert.assertEquals( expected.toString(), new String( baos.toByteArray(), StandardCharsets.UTF_8 ) );
+    }
+
     @Test
     public void test_GivenImporter_ThenReadNext5RowsFromCSV_ShouldBeOk() throws IOException
     {
@@ -122,6 +159,349 @@ public class CSVBuilderTest
         }
     }
 
+    @Test
+    public void test_GivenImporter_ThenStreamInParallelKeepingOrder_ShouldBeOk() throws IOException
+    {
+        final int rows = 5000;
+        final StringBuilder csv = new StringBuilder( CSV.substring( 0, CSV.indexOf( '\n' ) + 1 ) );
+        for( int i = 0; i < rows; i++ )
+        {
+            csv.append( csvRow( i ) );
+        }
+
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( Bean::new )
+                .ignoringErrors( false )
+                .skippingHeader( true )
+                .readingInParallel( true )
+                .keepingOrder( true )
+                .withChunkSize( 64 )
+                .build(
+                        MappingBean.mapping( COLUMN_1, c -> c.substring( PREFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_2, c -> c.substring( 0, c.length() - SUFFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_4, content ->
+                                Stream.of( content.split( ";" ) ).map( Integer::valueOf ).collect( Collectors.toList() ) ),
+                        MappingBean.mapping( COLUMN_5, content -> {
+                            final String[] pieces = content.split( ";" );
+                            return new InnerBean( pieces[ 0 ], Integer.valueOf( pieces[ 1 ] ) );
+                        } )
+                );
+
+        final ByteArrayInputStream bais = new ByteArrayInputStream( csv.toString().getBytes( StandardCharsets.UTF_8 ) );
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( bais ) )
+        {
+            final List< Bean > beans = reader.stream().collect( Collectors.toList() );
+            Assert.assertEquals( rows, beans.size() );
+            for( int i = 0; i < rows; i++ )
+            {
+                Assert.assertEquals( new Bean( i ), beans.get( i ) );
+            }
+        }
+    }
+
+    @Test
+    public void test_GivenImporterWithoutSynchronizedReads_ThenStreamInParallel_ShouldBeOk() throws IOException
+    {
+        final int rows = 2000;
+        final StringBuilder csv = new StringBuilder( CSV.substring( 0, CSV.indexOf( '\n' ) + 1 ) );
+        for( int i = 0; i < rows; i++ )
+        {
+            csv.append( csvRow( i ) );
+        }
+
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( Bean::new )
+                .skippingHeader( true )
+                .synchronizingReads( false )
+                .readingInParallel( true )
+                .withChunkSize( 32 )
+                .build( MappingBean.mapping( COLUMN_4, content -> null ), MappingBean.mapping( COLUMN_5, content -> null ) );
+
+        final ByteArrayInputStream bais = new ByteArrayInputStream( csv.toString().getBytes( StandardCharsets.UTF_8 ) );
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( bais ) )
+        {
+            Assert.assertEquals( rows, reader.stream().count() );
+        }
+    }
+
+    @Test
+    public void test_GivenImporterReadingAhead_ThenStream_ShouldBeOk() throws IOException
+    {
+        final int rows = 2000;
+        final StringBuilder csv = new StringBuilder( CSV.substring( 0, CSV.indexOf( '\n' ) + 1 ) );
+        for( int i = 0; i < rows; i++ )
+        {
+            csv.append( csvRow( i ) );
+        }
+
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( Bean::new )
+                .ignoringErrors( false )
+                .skippingHeader( true )
+                .readingAhead( true )
+                .withReadAheadBuffers( 3 )
+                .build(
+                        MappingBean.mapping( COLUMN_1, c -> c.substring( PREFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_2, c -> c.substring( 0, c.length() - SUFFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_4, content ->
+                                Stream.of( content.split( ";" ) ).map( Integer::valueOf ).collect( Collectors.toList() ) ),
+                        MappingBean.mapping( COLUMN_5, content -> {
+                            final String[] pieces = content.split( ";" );
+                            return new InnerBean( pieces[ 0 ], Integer.valueOf( pieces[ 1 ] ) );
+                        } )
+                );
+
+        final ByteArrayInputStream bais = new ByteArrayInputStream( csv.toString().getBytes( StandardCharsets.UTF_8 ) );
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( bais ) )
+        {
+            int i = 0;
+            for( Bean bean : reader.readNext( rows + 1 ) )
+            {
+                Assert.assertEquals( new Bean( i++ ), bean );
+            }
+            Assert.assertEquals( rows, i );
+        }
+    }
+
+    @Test
+    public void test_GivenImporterProjectingColumns_ThenReadNext_ShouldMapOnlyThoseColumns() throws IOException
+    {
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( () -> new Bean( -1 ) )
+                .ignoringErrors( false )
+                .skippingHeader( true )
+                .projecting( COLUMN_1, COLUMN_3 )
+                .build(
+                        MappingBean.mapping( COLUMN_1, c -> c.substring( PREFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_4, content -> { throw new IllegalStateException( "not projected" ); } ),
+                        MappingBean.mapping( COLUMN_5, content -> { throw new IllegalStateException( "not projected" ); } )
+                );
+
+        final ByteArrayInputStream bais = new ByteArrayInputStream( CSV.getBytes( StandardCharsets.UTF_8 ) );
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( bais ) )
+        {
+            int i = 0;
+            for( Bean bean : reader.readNext( 10 ) )
+            {
+                Assert.assertEquals( "c1__" + i, bean.column1 );
+                Assert.assertEquals( Integer.valueOf( i ), bean.column3 );
+                Assert.assertEquals( "c2__-1", bean.column2 );
+                Assert.assertEquals( new InnerBean( "inner -1", -1 ), bean.column5 );
+                i++;
+            }
+            Assert.assertEquals( 10, i );
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void test_GivenImporterProjectingColumns_ThenReadRowWithExtraColumn_ShouldFail() throws IOException
+    {
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( () -> new Bean( -1 ) )
+                .ignoringErrors( false )
+                .skippingHeader( true )
+                .projecting( COLUMN_1, COLUMN_3 )
+                .build();
+
+        final String csv = CSV + "\"prefix-----c1__10\";\"c2__10-----suffix\";\"10\";\"1;2\";\"inner 10;10\";\"extra\"\n";
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( csv.getBytes( StandardCharsets.UTF_8 ) ) ) )
+        {
+            reader.readNext( 11 );
+        }
+    }
+
+    @Test( expected = ExceptionCSVBeanConfiguration.class )
+    public void test_GivenImporterProjectingUnknownColumn_ThenBuild_ShouldFail()
+    {
+        CSVBuilder.newImporter( Bean.class ).withBeanFactory( Bean::new ).projecting( "UNKNOWN" ).build();
+    }
+
+    @Test
+    public void test_GivenImporterFilteringRawFields_ThenReadAndStream_ShouldKeepOnlyMatchingRows() throws IOException
+    {
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( () -> new Bean( -1 ) )
+                .ignoringErrors( false )
+                .skippingHeader( true )
+                .filtering(
+                        FilteringField.filtering( COLUMN_1, FilterField.startingWith( PREFIX + "c1__" ) ),
+                        FilteringField.filtering( COLUMN_3, FilterField.between( 3, 7 ).and( FilterField.equalTo( "5" ).negate() ) )
+                )
+                .build(
+                        MappingBean.mapping( COLUMN_1, c -> c.substring( PREFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_2, c -> c.substring( 0, c.length() - SUFFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_4, content ->
+                                Stream.of( content.split( ";" ) ).map( Integer::valueOf ).collect( Collectors.toList() ) ),
+                        MappingBean.mapping( COLUMN_5, content -> {
+                            final String[] pieces = content.split( ";" );
+                            return new InnerBean( pieces[ 0 ], Integer.valueOf( pieces[ 1 ] ) );
+                        } )
+                );
+
+        final List< Bean > expected = Stream.of( 3, 4, 6, 7 ).map( Bean::new ).collect( Collectors.toList() );
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( CSV.getBytes( StandardCharsets.UTF_8 ) ) ) )
+        {
+            Assert.assertEquals( expected, reader.readNext( 10 ) );
+        }
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( CSV.getBytes( StandardCharsets.UTF_8 ) ) ) )
+        {
+            Assert.assertEquals( expected, reader.stream().collect( Collectors.toList() ) );
+        }
+    }
+
+    @Test( expected = ExceptionCSVBeanConfiguration.class )
+    public void test_GivenImporterFilteringUnknownColumn_ThenBuild_ShouldFail()
+    {
+        CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( Bean::new )
+                .filtering( FilteringField.filtering( "UNKNOWN", FilterField.equalTo( "" ) ) )
+                .build();
+    }
+
+    @Test
+    public void test_GivenImporterWithBeanRing_ThenReadEach_ShouldReuseTheRingBeans() throws IOException
+    {
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( () -> new Bean( -1 ) )
+                .ignoringErrors( false )
+                .skippingHeader( true )
+                .withBeanRingSize( 2 )
+                .build(
+                        MappingBean.mapping( COLUMN_1, c -> c.substring( PREFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_2, c -> c.substring( 0, c.length() - SUFFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_4, content ->
+                                Stream.of( content.split( ";" ) ).map( Integer::valueOf ).collect( Collectors.toList() ) ),
+                        MappingBean.mapping( COLUMN_5, content -> {
+                            final String[] pieces = content.split( ";" );
+                            return new InnerBean( pieces[ 0 ], Integer.valueOf( pieces[ 1 ] ) );
+                        } )
+                );
+
+        final List< Bean > seen = new ArrayList<>();
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( CSV.getBytes( StandardCharsets.UTF_8 ) ) ) )
+        {
+            final long count = reader.readEach( bean -> {
+                Assert.assertEquals( new Bean( seen.size() ), bean );
+                seen.add( bean );
+            } );
+            Assert.assertEquals( 10, count );
+        }
+        for( int i = 2; i < seen.size(); i++ )
+        {
+            Assert.assertSame( seen.get( i - 2 ), seen.get( i ) );
+        }
+        Assert.assertNotSame( seen.get( 0 ), seen.get( 1 ) );
+    }
+
+    @Test
+    public void test_GivenImporterBindingHeaderByName_ThenReadReorderedFile_ShouldBindColumnsByName() throws IOException
+    {
+        final StringBuilder csv = new StringBuilder( "EXTRA;" + COLUMN_3 + ";" + COLUMN_4 + ";" + COLUMN_2 + ";" + COLUMN_1 + "\n" );
+        for( int i = 0; i < 10; i++ )
+        {
+            csv.append( "x" ).append( i ).append( ";\"" ).append( i ).append( "\";\"1;2;3;4\";\"c2__" ).append( i )
+                    .append( SUFFIX ).append( "\";\"" ).append( PREFIX ).append( "c1__" ).append( i ).append( "\"\n" );
+        }
+
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( () -> new Bean( -1 ) )
+                .ignoringErrors( false )
+                .bindingHeaderByName( true )
+                .filtering( FilteringField.filtering( COLUMN_3, FilterField.between( 2, 8 ) ) )
+                .build(
+                        MappingBean.mapping( COLUMN_1, c -> c.substring( PREFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_2, c -> c.substring( 0, c.length() - SUFFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_4, content ->
+                                Stream.of( content.split( ";" ) ).map( Integer::valueOf ).collect( Collectors.toList() ) )
+                );
+
+        final List< Bean > expected = new ArrayList<>();
+        for( int i = 2; i <= 8; i++ )
+        {
+            final Bean bean = new Bean( i );
+            bean.column5 = new InnerBean( "inner -1", -1 ); // missing on the file
+            expected.add( bean );
+        }
+
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( csv.toString().getBytes( StandardCharsets.UTF_8 ) ) ) )
+        {
+            Assert.assertEquals( expected, reader.readNext( 10 ) );
+        }
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( csv.toString().getBytes( StandardCharsets.UTF_8 ) ) ) )
+        {
+            Assert.assertEquals( expected, reader.stream().collect( Collectors.toList() ) );
+        }
+    }
+
+    @Test( expected = ExceptionCSVBeanConfiguration.class )
+    public void test_GivenImporterBindingHeaderByName_ThenReadFileWithoutKnownColumns_ShouldFail() throws IOException
+    {
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( Bean::new )
+                .bindingHeaderByName( true )
+                .build();
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( "A;B\n1;2\n".getBytes( StandardCharsets.UTF_8 ) ) ) )
+        {
+            reader.readNext( 1 );
+        }
+    }
+
+    @Test
+    public void test_GivenImporterScanningBytes_ThenStreamInParallel_ShouldBeOk() throws IOException
+    {
+        final int rows = 2000;
+        final StringBuilder csv = new StringBuilder( CSV.substring( 0, CSV.indexOf( '\n' ) + 1 ) );
+        for( int i = 0; i < rows; i++ )
+        {
+            csv.append( csvRow( i ) );
+        }
+
+        final CSVImporter< Bean > importer = CSVBuilder
+                .newImporter( Bean.class )
+                .withBeanFactory( Bean::new )
+                .ignoringErrors( false )
+                .verifyingHeader( true )
+                .scanningBytes( true )
+                .readingInParallel( true )
+                .withBufferSize( 64 )
+                .build(
+                        MappingBean.mapping( COLUMN_1, c -> c.substring( PREFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_2, c -> c.substring( 0, c.length() - SUFFIX.length() ) ),
+                        MappingBean.mapping( COLUMN_4, content ->
+                                Stream.of( content.split( ";" ) ).map( Integer::valueOf ).collect( Collectors.toList() ) ),
+                        MappingBean.mapping( COLUMN_5, content -> {
+                            final String[] pieces = content.split( ";" );
+                            return new InnerBean( pieces[ 0 ], Integer.valueOf( pieces[ 1 ] ) );
+                        } )
+                );
+
+        final ByteArrayInputStream bais = new ByteArrayInputStream( csv.toString().getBytes( StandardCharsets.UTF_8 ) );
+        try( final CSVImporter< Bean >.CSVReader reader = importer.fromFile( bais ) )
+        {
+            final List< Bean > beans = reader.stream().collect( Collectors.toList() );
+            Assert.assertEquals( rows, beans.size() );
+            for( int i = 0; i < rows; i++ )
+            {
+                Assert.assertEquals( new Bean( i ), beans.get( i ) );
+            }
+        }
+    }
+
+    private static String csvRow( int i )
+    {
+        return "\"" + PREFIX + "c1__" + i + "\";\"c2__" + i + SUFFIX + "\";\"" + i + "\";\"1;2;3;4\";\"inner " + i + ";" + i + "\"\n";
+    }
+
     @Test
     public void test_BuilderWithCustomCSVAutoMapper()
     {
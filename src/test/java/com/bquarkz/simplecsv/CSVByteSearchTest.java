@@ -0,0 +1,62 @@
+package com.bquarkz.simplecsv;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+public class CSVByteSearchTest
+{
+    @Test
+    public void test_GivenRandomBytes_ThenIndexOfAny_ShouldFindTheSameAsAByteByByteSearch()
+    {
+        final Random random = new Random( 42 );
+        final byte[] bytes = new byte[ 257 ];
+        final ByteBuffer words = CSVByteSearch.wordsOf( bytes );
+        final byte[] targets = { ';', '\n', '"' };
+        final long first = CSVByteSearch.broadcast( targets[ 0 ] );
+        final long second = CSVByteSearch.broadcast( targets[ 1 ] );
+        final long third = CSVByteSearch.broadcast( targets[ 2 ] );
+        for( int round = 0; round < 500; round++ )
+        {
+            for( int i = 0; i < bytes.length; i++ )
+            {
+                // mostly plain (and high) bytes, a target now and then
+                bytes[ i ] = random.nextInt( 40 ) == 0 ? targets[ random.nextInt( 3 ) ] : (byte)( 'a' + random.nextInt( 200 ) );
+            }
+            final int from = random.nextInt( bytes.length );
+            final int to = from + random.nextInt( bytes.length - from + 1 );
+            Assert.assertEquals( naiveIndexOfAny( bytes, from, to, targets ), CSVByteSearch.indexOfAny( words, from, to, first, second, third ) );
+        }
+    }
+
+    @Test
+    public void test_GivenTargetOnEveryPosition_ThenIndexOfAny_ShouldFindItOnWordsAndTail()
+    {
+        final byte[] bytes = new byte[ 19 ];
+        final ByteBuffer words = CSVByteSearch.wordsOf( bytes );
+        final long pattern = CSVByteSearch.broadcast( (byte)0x80 );
+        for( int i = 0; i < bytes.length; i++ )
+        {
+            Arrays.fill( bytes, (byte)0x7F );
+            bytes[ i ] = (byte)0x80;
+            Assert.assertEquals( i, CSVByteSearch.indexOfAny( words, 0, bytes.length, pattern, pattern, pattern ) );
+            Assert.assertEquals( i < 3 ? -1 : i, CSVByteSearch.indexOfAny( words, 3, bytes.length, pattern, pattern, pattern ) );
+        }
+        Assert.assertEquals( -1, CSVByteSearch.indexOfAny( words, 5, 5, pattern, pattern, pattern ) );
+    }
+
+    private static int naiveIndexOfAny( byte[] bytes, int from, int to, byte[] targets )
+    {
+        for( int i = from; i < to; i++ )
+        {
+            for( byte target : targets )
+            {
+                if( bytes[ i ] == target ) return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,187 @@
+package com.bquarkz.simplecsv;
+
+import com.bquarkz.simplecsv.CSVRowsFixture.RowBean;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CSVCheckpointTest
+{
+    private static final int ROWS = 1000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test_GivenCheckpoint_ThenToken_ShouldParseBack()
+    {
+        final CSVCheckpoint checkpoint = new CSVCheckpoint( 1234, 56, true, 4096, 1500000000000L );
+        Assert.assertEquals( checkpoint, CSVCheckpoint.fromToken( checkpoint.toToken() ) );
+        Assert.assertEquals( 1234, CSVCheckpoint.fromToken( checkpoint.toToken() ).getPosition() );
+        Assert.assertEquals( 56, CSVCheckpoint.fromToken( checkpoint.toToken() ).getRowNumber() );
+        Assert.assertEquals( 4096, CSVCheckpoint.fromToken( checkpoint.toToken() ).getFileLength() );
+        Assert.assertEquals( 1500000000000L, CSVCheckpoint.fromToken( checkpoint.toToken() ).getLastModified() );
+
+        for( String token : new String[]{
+                null,
+                "",
+                "csv-checkpoint:1:12:3:1",
+                "csv-checkpoint:2:12:3:1:100:0",
+                "csv-checkpoint:1:a:3:1:100:0",
+                "csv-checkpoint:1:12:3:0:100:0",
+                "csv-checkpoint:1:120:3:1:100:0" } )
+        {
+            try
+            {
+                CSVCheckpoint.fromToken( token );
+                Assert.fail( "token should be refused: " + token );
+            }
+            catch( IllegalArgumentException e )
+            {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void test_GivenInterruptedRead_ThenResumeFromCheckpoint_ShouldReadEveryRowOnce() throws IOException
+    {
+        final File file = CSVRowsFixture.writeCSV( folder, "", ROWS, 10 );
+        final CSVImporter< RowBean > importer = CSVBuilder
+                .newImporter( RowBean.class )
+                .ignoringErrors( false )
+                .scanningBytes( true )
+                .verifyingHeader( true )
+                .build();
+
+        final List< RowBean > beans = new ArrayList<>();
+        String token;
+        try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath() ) )
+        {
+            Assert.assertEquals( new CSVCheckpoint( 0, 0, false, file.length(), file.lastModified() ), reader.checkpoint() );
+            beans.addAll( reader.readNext( 333 ) );
+            Assert.assertEquals( 333, reader.getRowNumber() );
+            token = reader.checkpoint().toToken();
+        }
+
+        while( true )
+        {
+            try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath(), CSVCheckpoint.fromToken( token ) ) )
+            {
+                final List< RowBean > batch = reader.readNext( 250 );
+                if( batch.isEmpty() ) break;
+                beans.addAll( batch );
+                token = reader.checkpoint().toToken();
+            }
+        }
+
+        Assert.assertEquals( ROWS, CSVCheckpoint.fromToken( token ).getRowNumber() );
+        Assert.assertEquals( ROWS, beans.size() );
+        for( int i = 0; i < ROWS; i++ )
+        {
+            Assert.assertEquals( i, beans.get( i ).id );
+            Assert.assertTrue( beans.get( i ).name.startsWith( "name " + i ) );
+        }
+        Assert.assertFalse( CSVRowIndex.sidecarOf( file ).exists() );
+    }
+
+    @Test
+    public void test_GivenBoundByNameCheckpoint_ThenResume_ShouldBindTheHeaderAgain() throws IOException
+    {
+        final File file = CSVRowsFixture.writeCSV( folder, "", ROWS, 10 );
+        final CSVImporter< RowBean > importer = CSVBuilder
+                .newImporter( RowBean.class )
+                .ignoringErrors( false )
+                .scanningBytes( true )
+                .bindingHeaderByName( true )
+                .projecting( "ID" )
+                .build();
+
+        final CSVCheckpoint checkpoint;
+        try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath() ) )
+        {
+            reader.readNext( 900 );
+            checkpoint = reader.checkpoint();
+            Assert.assertTrue( checkpoint.isHeaderPassed() );
+        }
+
+        try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath(), checkpoint ) )
+        {
+            long sum = 0;
+            for( RowBean bean : reader.readNext( ROWS ) )
+            {
+                Assert.assertNull( bean.name );
+                sum += bean.id;
+            }
+            Assert.assertEquals( 900L * 100 + ( 99 * 100 ) / 2, sum );
+            Assert.assertEquals( ROWS, reader.getRowNumber() );
+        }
+    }
+
+    @Test
+    public void test_GivenRewrittenFile_ThenResumeFromCheckpoint_ShouldFail() throws IOException
+    {
+        final File file = CSVRowsFixture.writeCSV( folder, "", ROWS, 10 );
+        final CSVImporter< RowBean > importer = CSVBuilder
+                .newImporter( RowBean.class )
+                .scanningBytes( true )
+                .build();
+
+        final CSVCheckpoint checkpoint;
+        try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath() ) )
+        {
+            reader.readNext( 100 );
+            checkpoint = reader.checkpoint();
+        }
+
+        Files.write( file.toPath(), "ID;NAME\n1;\"one\"\n".getBytes( StandardCharsets.UTF_8 ) );
+        try
+        {
+            importer.fromFile( file.getPath(), checkpoint );
+            Assert.fail( "checkpoint of another version of the file should be refused" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            // expected
+        }
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void test_GivenInputStreamReader_ThenCheckpoint_ShouldFail() throws IOException
+    {
+        final File file = CSVRowsFixture.writeCSV( folder, "", ROWS, 10 );
+        try( final CSVImporter< RowBean >.CSVReader reader = CSVBuilder
+                .newImporter( RowBean.class )
+                .scanningBytes( true )
+                .build()
+                .fromFile( new FileInputStream( file ) ) )
+        {
+            reader.readNext( 1 );
+            reader.checkpoint();
+        }
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void test_GivenStreamedReader_ThenCheckpoint_ShouldFail() throws IOException
+    {
+        final File file = CSVRowsFixture.writeCSV( folder, "", ROWS, 10 );
+        try( final CSVImporter< RowBean >.CSVReader reader = CSVBuilder
+                .newImporter( RowBean.class )
+                .scanningBytes( true )
+                .build()
+                .fromFile( file.getPath() ) )
+        {
+            reader.stream().count();
+            reader.checkpoint();
+        }
+    }
+}
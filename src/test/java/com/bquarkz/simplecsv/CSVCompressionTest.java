@@ -0,0 +1,203 @@
+package com.bquarkz.simplecsv;
+
+import com.bquarkz.simplecsv.CSVRowsFixture.RowBean;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class CSVCompressionTest
+{
+    private static final int ROWS = 20000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static List< RowBean > rows()
+    {
+        final List< RowBean > beans = new ArrayList<>( ROWS );
+        for( int i = 0; i < ROWS; i++ )
+        {
+            beans.add( new RowBean( i, "name " + i ) );
+        }
+        return beans;
+    }
+
+    private static void assertRows( List< RowBean > beans )
+    {
+        Assert.assertEquals( ROWS, beans.size() );
+        for( int i = 0; i < ROWS; i++ )
+        {
+            Assert.assertEquals( i, beans.get( i ).id );
+            Assert.assertEquals( "name " + i, beans.get( i ).name );
+        }
+    }
+
+    private static byte[] readAll( InputStream input ) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[ 8192 ];
+        int read;
+        while( ( read = input.read( buffer ) ) >= 0 )
+        {
+            bytes.write( buffer, 0, read );
+        }
+        return bytes.toByteArray();
+    }
+
+    private File export( String name ) throws IOException
+    {
+        final File file = new File( folder.getRoot(), name );
+        try( final CSVExporter< RowBean >.CSVWriter writer = CSVBuilder
+                .newExporter( RowBean.class )
+                .ignoringErrors( false )
+                .build()
+                .toFile( file.getPath() ) )
+        {
+            writer.write( rows() );
+        }
+        return file;
+    }
+
+    @Test
+    public void test_GivenGzipFileName_ThenExport_ShouldWriteBlockedGzipAnyToolReads() throws IOException
+    {
+        final File plain = export( "rows.csv" );
+        final File compressed = export( "rows.csv.gz" );
+        Assert.assertTrue( compressed.length() < plain.length() );
+
+        final byte[] head = new byte[ CSVGzipInputStream.BLOCK_HEADER_SIZE ];
+        try( final InputStream input = new FileInputStream( compressed ) )
+        {
+            Assert.assertEquals( head.length, CSVCompression.readFully( input, head ) );
+        }
+        Assert.assertTrue( CSVGzipInputStream.isBlockHeader( head ) );
+
+        try( final InputStream input = new GZIPInputStream( new FileInputStream( compressed ) ) )
+        {
+            Assert.assertArrayEquals( Files.readAllBytes( plain.toPath() ), readAll( input ) );
+        }
+    }
+
+    @Test
+    public void test_GivenBlockedGzipFile_ThenImport_ShouldInflateBlocksInOrder() throws IOException
+    {
+        final File compressed = export( "rows.csv.gz" );
+        final CSVImporter< RowBean > importer = CSVBuilder
+                .newImporter( RowBean.class )
+                .ignoringErrors( false )
+                .build();
+        try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( compressed.getPath() ) )
+        {
+            assertRows( reader.readNext( ROWS + 1 ) );
+        }
+        try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( compressed.getPath() ) )
+        {
+            assertRows( reader.stream().collect( Collectors.toList() ) );
+        }
+    }
+
+    @Test
+    public void test_GivenPlainGzipStream_ThenImport_ShouldBeRecognisedByItsMagic() throws IOException
+    {
+        final byte[] plain = Files.readAllBytes( export( "rows.csv" ).toPath() );
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try( final GZIPOutputStream gzip = new GZIPOutputStream( bytes ) )
+        {
+            gzip.write( plain, 0, plain.length / 2 );
+        }
+        try( final GZIPOutputStream gzip = new GZIPOutputStream( bytes ) ) // a second member
+        {
+            gzip.write( plain, plain.length / 2, plain.length - plain.length / 2 );
+        }
+
+        final File file = folder.newFile( "rows.data" );
+        Files.write( file.toPath(), bytes.toByteArray() );
+        for( boolean scanningBytes : new boolean[]{ false, true } )
+        {
+            final CSVImporter< RowBean > importer = CSVBuilder
+                    .newImporter( RowBean.class )
+                    .ignoringErrors( false )
+                    .scanningBytes( scanningBytes )
+                    .mappingFilesToMemory( !scanningBytes )
+                    .build();
+            try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+            {
+                assertRows( reader.readNext( ROWS + 1 ) );
+            }
+            try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath() ) )
+            {
+                assertRows( reader.readNext( ROWS + 1 ) );
+            }
+        }
+    }
+
+    @Test
+    public void test_GivenCompressedFile_ThenSeek_ShouldFail() throws IOException
+    {
+        final File compressed = export( "rows.csv.gz" );
+        final CSVImporter< RowBean > importer = CSVBuilder.newImporter( RowBean.class ).build();
+        try
+        {
+            importer.fromFile( compressed.getPath(), 10 );
+            Assert.fail( "compressed files should not be sought" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            // expected
+        }
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void test_GivenCompressedFile_ThenCheckpoint_ShouldFail() throws IOException
+    {
+        final File compressed = export( "rows.csv.gz" );
+        try( final CSVImporter< RowBean >.CSVReader reader = CSVBuilder
+                .newImporter( RowBean.class )
+                .scanningBytes( true )
+                .build()
+                .fromFile( compressed.getPath() ) )
+        {
+            reader.readNext( 100 );
+            reader.checkpoint();
+        }
+    }
+
+    @Test
+    public void test_GivenZstdSource_ThenRead_ShouldBeRefused() throws IOException
+    {
+        final byte[] zstd = { 0x28, (byte)0xb5, 0x2f, (byte)0xfd, 0, 0, 0, 0 };
+        try( final CSVImporter< RowBean >.CSVReader reader = CSVBuilder
+                .newImporter( RowBean.class )
+                .build()
+                .fromFile( new ByteArrayInputStream( zstd ) ) )
+        {
+            reader.readNext( 1 );
+            Assert.fail( "zstd sources should be refused" );
+        }
+        catch( IOException e )
+        {
+            Assert.assertTrue( e.getMessage().contains( "zstd" ) );
+        }
+    }
+
+    @Test
+    public void test_GivenLz4FileName_ThenExport_ShouldWritePlain() throws IOException
+    {
+        final byte[] plain = Files.readAllBytes( export( "rows.csv" ).toPath() );
+        Assert.assertArrayEquals( plain, Files.readAllBytes( export( "rows.csv.lz4" ).toPath() ) );
+    }
+}
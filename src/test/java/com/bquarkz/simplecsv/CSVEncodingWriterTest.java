@@ -0,0 +1,59 @@
+package com.bquarkz.simplecsv;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+public class CSVEncodingWriterTest
+{
+    private static final String CONTENT = "\"a\u00e7\u00e3o\";\"1\"\n\"na\u00efve \u20acuro\";\"2\"\n\"\ud834\udd1e clef\";\"4\"\n";
+
+    private static byte[] encode( Charset charset, int capacity, int step ) throws IOException
+    {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try( final CSVEncodingWriter writer = new CSVEncodingWriter( baos, charset, capacity ) )
+        {
+            final char[] chars = CONTENT.toCharArray();
+            for( int offset = 0; offset < chars.length; offset += step )
+            {
+                writer.write( chars, offset, Math.min( step, chars.length - offset ) );
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    @Test
+    public void test_GivenSmallBuffersAndSplitWrites_ThenEncode_ShouldBeAsGetBytes() throws IOException
+    {
+        final Charset[] charsets = { StandardCharsets.UTF_8, StandardCharsets.UTF_16, StandardCharsets.ISO_8859_1 };
+        for( Charset charset : charsets )
+        {
+            for( int step = 1; step <= 5; step++ )
+            {
+                Assert.assertArrayEquals( charset + " / " + step, CONTENT.getBytes( charset ), encode( charset, 4, step ) );
+            }
+        }
+    }
+
+    @Test
+    public void test_GivenEncodedBytes_ThenFlush_ShouldCountAndResetBytes() throws IOException
+    {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final CSVEncodingWriter writer = new CSVEncodingWriter( baos, StandardCharsets.UTF_8, 64 );
+        writer.write( "\u20ac;" );
+        Assert.assertEquals( 4, writer.getBytesSinceFlush() );
+        Assert.assertEquals( 0, baos.size() );
+        final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        encoded.write( 'a' );
+        encoded.write( 'b' );
+        writer.writeEncoded( encoded );
+        Assert.assertEquals( 6, writer.getBytesSinceFlush() );
+        writer.flush();
+        Assert.assertEquals( 0, writer.getBytesSinceFlush() );
+        Assert.assertEquals( "\u20ac;ab", new String( baos.toByteArray(), StandardCharsets.UTF_8 ) );
+    }
+}
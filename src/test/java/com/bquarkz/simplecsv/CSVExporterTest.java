@@ -0,0 +1,284 @@
+package com.bquarkz.simplecsv;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class CSVExporterTest
+{
+    private static final int ROWS = 10_000;
+
+    private static Connection connection;
+
+    @BeforeClass
+    public static void createTable() throws SQLException
+    {
+        connection = DriverManager.getConnection( "jdbc:h2:mem:simple-csv-exporter" );
+        try( final Statement statement = connection.createStatement() )
+        {
+            statement.execute( "CREATE TABLE ITEMS( ID INT PRIMARY KEY, NAME VARCHAR( 32 ), AMOUNT BIGINT )" );
+        }
+        try( final PreparedStatement insert = connection.prepareStatement( "INSERT INTO ITEMS VALUES( ?, ?, ? )" ) )
+        {
+            for( int i = 0; i < ROWS; i++ )
+            {
+                insert.setInt( 1, i );
+                insert.setString( 2, "item " + i );
+                insert.setLong( 3, i * 1_000_003L );
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @AfterClass
+    public static void dropTable() throws SQLException
+    {
+        connection.close();
+    }
+
+    private static String export( CSVExporterBuilder< Item > builder ) throws IOException, SQLException
+    {
+        return export( builder, "SELECT ID, NAME, AMOUNT FROM ITEMS ORDER BY ID", true );
+    }
+
+    private static String export( CSVExporterBuilder< Item > builder, String query, boolean throughBeans ) throws IOException, SQLException
+    {
+        final CSVExporter< Item > exporter = builder.build();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try( final Statement statement = connection.createStatement();
+             final ResultSet rs = statement.executeQuery( query );
+             final CSVExporter< Item >.CSVWriter writer = exporter.toOutputStream( baos ) )
+        {
+            if( throughBeans )
+            {
+                writer.writeFrom( rs, Item::new );
+            }
+            else
+            {
+                writer.writeFrom( rs );
+            }
+        }
+        return new String( baos.toByteArray(), StandardCharsets.UTF_8 );
+    }
+
+    @Test
+    public void test_GivenResultSet_ThenWriteFromInPipeline_ShouldWriteAsSequentially() throws IOException, SQLException
+    {
+        final String expected = export( CSVBuilder.newExporter( Item.class ) );
+        Assert.assertEquals( ROWS + 1, expected.split( "\n" ).length );
+        Assert.assertTrue( expected.endsWith( "\"9999\";\"item 9999\";\"9999029997\"\n" ) );
+
+        Assert.assertEquals( expected, export( CSVBuilder
+                .newExporter( Item.class )
+                .pipeliningResultSets( true )
+                .withPipelineCapacity( 2 )
+                .withChunkSize( 100 )
+                .withFetchSize( 500 ) ) );
+
+        Assert.assertEquals( expected, export( CSVBuilder
+                .newExporter( Item.class )
+                .pipeliningResultSets( true )
+                .writingInParallel( true )
+                .withChunkSize( 64 ) ) );
+    }
+
+    @Test
+    public void test_GivenResultSet_ThenWriteFromWithoutBeans_ShouldWriteAsThroughBeans() throws IOException, SQLException
+    {
+        final String[] queries = {
+                "SELECT ID, NAME, AMOUNT FROM ITEMS ORDER BY ID",
+                "SELECT ID, CASE WHEN MOD( ID, 3 ) = 0 THEN NULL ELSE NAME END, AMOUNT, 'ignored' FROM ITEMS ORDER BY ID" };
+        for( String query : queries )
+        {
+            Assert.assertEquals(
+                    export( CSVBuilder.newExporter( Item.class ), query, true ),
+                    export( CSVBuilder.newExporter( Item.class ), query, false ) );
+            Assert.assertEquals(
+                    export( CSVBuilder.newExporter( Item.class ).withDelimiters( new CSVDelimiters( ",", "\n", null, null ) ), query, true ),
+                    export( CSVBuilder.newExporter( Item.class ).withDelimiters( new CSVDelimiters( ",", "\n", null, null ) ), query, false ) );
+            Assert.assertEquals(
+                    export( CSVBuilder.newExporter( Item.class ).withMappings( MappingCSV.mapping( "amount", o -> "#" + o ) ), query, true ),
+                    export( CSVBuilder.newExporter( Item.class ).withMappings( MappingCSV.mapping( "amount", o -> "#" + o ) ), query, false ) );
+        }
+    }
+
+    @Test( expected = ExceptionCSVWriter.class )
+    public void test_GivenResultSetWithTooFewColumns_ThenWriteFromWithoutBeans_ShouldThrowException() throws IOException, SQLException
+    {
+        export( CSVBuilder.newExporter( Item.class ), "SELECT ID, NAME FROM ITEMS", false );
+    }
+
+    @Test
+    public void test_GivenFlushPolicies_ThenWriteFrom_ShouldFlushTheOutputStream() throws IOException, SQLException
+    {
+        final int[] flushes = { 0 };
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream()
+        {
+            @Override
+            public void flush()
+            {
+                flushes[ 0 ]++;
+            }
+        };
+
+        final CSVExporter< Item > exporter = CSVBuilder
+                .newExporter( Item.class )
+                .withBufferSize( 1 << 20 )
+                .flushingEveryRows( 1000 )
+                .build();
+        try( final Statement statement = connection.createStatement();
+             final ResultSet rs = statement.executeQuery( "SELECT ID, NAME, AMOUNT FROM ITEMS" );
+             final CSVExporter< Item >.CSVWriter writer = exporter.toOutputStream( baos ) )
+        {
+            writer.writeFrom( rs );
+            Assert.assertEquals( ROWS / 1000, flushes[ 0 ] );
+        }
+
+        flushes[ 0 ] = 0;
+        baos.reset();
+        final CSVExporter< Item > bytesExporter = CSVBuilder
+                .newExporter( Item.class )
+                .withBufferSize( 1 << 20 )
+                .flushingEveryBytes( 64 * 1024 )
+                .build();
+        try( final Statement statement = connection.createStatement();
+             final ResultSet rs = statement.executeQuery( "SELECT ID, NAME, AMOUNT FROM ITEMS" );
+             final CSVExporter< Item >.CSVWriter writer = bytesExporter.toOutputStream( baos ) )
+        {
+            writer.writeFrom( rs );
+            Assert.assertEquals( baos.size() / ( 64 * 1024 ), flushes[ 0 ] );
+        }
+    }
+
+    @Test( expected = ExceptionCSVMapping.class )
+    public void test_GivenResultSet_WhenMappingFailsInPipeline_ShouldThrowException() throws IOException, SQLException
+    {
+        export( CSVBuilder
+                .newExporter( Item.class )
+                .ignoringErrors( false )
+                .pipeliningResultSets( true )
+                .withPipelineCapacity( 1 )
+                .withChunkSize( 10 )
+                .withMappings( MappingCSV.mapping( "name", name -> {
+                    throw new IllegalStateException( "broken mapping" );
+                } ) ) );
+    }
+
+    @Test
+    public void test_GivenResultSetFailingInPipeline_ThenClose_ShouldNotWriteAfterwards() throws IOException, SQLException, InterruptedException
+    {
+        final CSVExporter< Item > exporter = CSVBuilder
+                .newExporter( Item.class )
+                .pipeliningResultSets( true )
+                .withPipelineCapacity( 1 )
+                .withChunkSize( 10 )
+                .withBufferSize( 64 )
+                .build();
+        final SlowOutputStream output = new SlowOutputStream();
+        try( final Statement statement = connection.createStatement();
+             final ResultSet rs = failingAfter( statement.executeQuery( "SELECT ID, NAME, AMOUNT FROM ITEMS ORDER BY ID" ), 500 ) )
+        {
+            try( final CSVExporter< Item >.CSVWriter writer = exporter.toOutputStream( output ) )
+            {
+                writer.writeFrom( rs, Item::new );
+                Assert.fail( "the broken cursor should be rethrown" );
+            }
+            catch( ExceptionCSVWriter e )
+            {
+                Assert.assertTrue( e.getCause() instanceof SQLException );
+            }
+        }
+
+        output.close();
+        final int written = output.size();
+        Thread.sleep( 100 );
+        Assert.assertFalse( output.writtenAfterClose );
+        Assert.assertEquals( written, output.size() );
+    }
+
+    /**
+     * The result set throws on the n-th call to next()
+     */
+    private static ResultSet failingAfter( ResultSet rs, int rows )
+    {
+        final int[] calls = { 0 };
+        return (ResultSet)Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class< ? >[]{ ResultSet.class },
+                ( proxy, method, args ) -> {
+                    if( method.getName().equals( "next" ) && ++calls[ 0 ] > rows )
+                    {
+                        throw new SQLException( "broken cursor" );
+                    }
+                    try
+                    {
+                        return method.invoke( rs, args );
+                    }
+                    catch( InvocationTargetException e )
+                    {
+                        throw e.getCause();
+                    }
+                } );
+    }
+
+    private static final class SlowOutputStream extends ByteArrayOutputStream
+    {
+        private volatile boolean closed;
+        private volatile boolean writtenAfterClose;
+
+        @Override
+        public void write( byte[] bytes, int offset, int length )
+        {
+            final long end = System.nanoTime() + 5_000_000; // a write an interrupt can't stop
+            while( System.nanoTime() < end )
+            {
+                Thread.yield();
+            }
+            synchronized( this )
+            {
+                super.write( bytes, offset, length );
+            }
+            if( closed ) writtenAfterClose = true;
+        }
+
+        @Override
+        public void close()
+        {
+            closed = true;
+        }
+    }
+
+    @CSVBean
+    private static class Item
+    {
+        @CSVColumn( column = 1 )
+        private int id;
+
+        @CSVColumn( column = 2 )
+        private String name;
+
+        @CSVColumn( column = 3 )
+        private long amount;
+
+        Item( ResultSet rs ) throws SQLException
+        {
+            this.id = rs.getInt( 1 );
+            this.name = rs.getString( 2 );
+            this.amount = rs.getLong( 3 );
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.bquarkz.simplecsv;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class CSVMappedFileReaderTest
+{
+    private static final String CONTENT = "\"a\u00e7\u00e3o\";\"1\"\n\"na\u00efve \u20acuro\";\"2\"\n\"plain ascii\";\"3\"\n\"\ud834\udd1e clef\";\"4\"\n";
+
+    private static String readAll( Reader reader, int chunk ) throws IOException
+    {
+        final StringBuilder sb = new StringBuilder();
+        final char[] chars = new char[ chunk ];
+        int read;
+        while( ( read = reader.read( chars, 0, chars.length ) ) != -1 )
+        {
+            sb.append( chars, 0, read );
+        }
+        return sb.toString();
+    }
+
+    private static File write( String content, Charset charset ) throws IOException
+    {
+        final File file = File.createTempFile( "simple-csv", ".csv" );
+        file.deleteOnExit();
+        Files.write( file.toPath(), content.getBytes( charset ) );
+        return file;
+    }
+
+    @Test
+    public void test_GivenUTF8File_ThenReadWithWindowsSmallerThanContent_ShouldDecodeEverything() throws IOException
+    {
+        final File file = write( CONTENT, StandardCharsets.UTF_8 );
+        for( int window = 8; window < 20; window++ )
+        {
+            try( final CSVMappedFileReader reader = new CSVMappedFileReader( file.getPath(), StandardCharsets.UTF_8, window ) )
+            {
+                Assert.assertEquals( "window: " + window, CONTENT, readAll( reader, 5 ) );
+            }
+        }
+    }
+
+    @Test
+    public void test_GivenUTF16File_ThenReadWithSmallWindows_ShouldDecodeEverything() throws IOException
+    {
+        final File file = write( CONTENT, StandardCharsets.UTF_16 );
+        try( final CSVMappedFileReader reader = new CSVMappedFileReader( file.getPath(), StandardCharsets.UTF_16, 9 ) )
+        {
+            Assert.assertEquals( CONTENT, readAll( reader, 7 ) );
+        }
+    }
+
+    @Test
+    public void test_GivenEmptyFile_ThenRead_ShouldReturnEndOfStream() throws IOException
+    {
+        final File file = write( "", StandardCharsets.UTF_8 );
+        try( final CSVMappedFileReader reader = new CSVMappedFileReader( file.getPath(), StandardCharsets.UTF_8 ) )
+        {
+            Assert.assertEquals( -1, reader.read( new char[ 16 ], 0, 16 ) );
+        }
+    }
+}
@@ -3,6 +3,12 @@ package com.bquarkz.simplecsv;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 
 public class CSVParserAnnotationTest
@@ -90,6 +96,144 @@ public class CSVParserAnnotationTest
         Assert.assertEquals( new CompositeBean( "aaa", new InnerBean( 123 ) ), bean );
     }
 
+    @Test
+    public void test_GivenParser_ThenIndexMappers_ShouldFollowHeadersOrder()
+    {
+        final CSVParserAnnotation< CompositeBean > parser = new CSVParserAnnotation<>( CompositeBean.class );
+        final MapperBean mapper = s -> new InnerBean( Integer.valueOf( s ) );
+        final MapperBean[] mappers = parser.indexBeanMappers(
+                MappingBean.mapping( "C2", mapper ),
+                MappingBean.mapping( "UNKNOWN", s -> s ) );
+        Assert.assertEquals( 2, mappers.length );
+        Assert.assertNull( mappers[ 0 ] );
+        Assert.assertSame( mapper, mappers[ 1 ] );
+
+        final CompositeBean bean = parser.toBean( "\"aaa\";\"123\"", new CSVDelimiters(), CompositeBean::new, mappers );
+        Assert.assertEquals( new CompositeBean( "aaa", new InnerBean( 123 ) ), bean );
+    }
+
+    @Test
+    public void test_GivenParserWithPrimitiveBean_ThenParseRowToBean_ShouldBeOk() throws IOException
+    {
+        final CSVParserAnnotation< PrimitiveBean > parser = new CSVParserAnnotation<>( PrimitiveBean.class );
+        final String csv = "\"12\";-9000000000;\"0.25\";true";
+        try( final CSVBufferedReader reader = new CSVBufferedReader( new StringReader( csv ), 16, new CSVDelimiters(), false ) )
+        {
+            final PrimitiveBean bean = parser.toBean( reader.nextRow(), new CSVDelimiters(), PrimitiveBean::new, new MapperBean[ 4 ] );
+            Assert.assertEquals( 12, bean.intColumn );
+            Assert.assertEquals( -9000000000L, bean.longColumn );
+            Assert.assertEquals( 0.25, bean.doubleColumn, 0.0 );
+            Assert.assertTrue( bean.booleanColumn );
+        }
+        Assert.assertEquals( 12, parser.toBean( csv, new CSVDelimiters(), PrimitiveBean::new ).intColumn );
+    }
+
+    @Test
+    public void test_GivenParserWithPositionalConstructor_ThenParseRowToBean_ShouldUseTheConstructor() throws IOException
+    {
+        final CSVParserAnnotation< ConstructedBean > parser = new CSVParserAnnotation<>( ConstructedBean.class );
+        final CSVBeanConstructor< ConstructedBean > constructor = parser.findPositionalConstructor( ConstructedBean.class );
+        final MapperBean[] mappers = parser.indexBeanMappers( MappingBean.mapping( "NAME", String::toUpperCase ) );
+        final String csv = "7;\"seven\";-9000000000\n8;\"eight\";80";
+        try( final CSVBufferedReader reader = new CSVBufferedReader( new StringReader( csv ), 16, new CSVDelimiters(), false ) )
+        {
+            final ConstructedBean bean = parser.toBean( reader.nextRow(), new CSVDelimiters(), constructor, mappers, null, true );
+            Assert.assertEquals( 7, bean.id );
+            Assert.assertEquals( "SEVEN", bean.name );
+            Assert.assertEquals( -9000000000L, bean.amount );
+            Assert.assertEquals( 1, bean.constructions );
+
+            final ConstructedBean projected = parser.toBean( reader.nextRow(), new CSVDelimiters(), constructor, mappers, parser.bindColumns( "AMOUNT" ), true );
+            Assert.assertEquals( 0, projected.id );
+            Assert.assertNull( projected.name );
+            Assert.assertEquals( 80L, projected.amount );
+        }
+    }
+
+    @Test
+    public void test_GivenImmutableBean_ThenImportByPosition_ShouldBuildItThroughTheConstructor() throws IOException
+    {
+        final CSVParserAnnotation< ImmutableBean > parser = new CSVParserAnnotation<>( ImmutableBean.class );
+        Assert.assertArrayEquals( new String[]{ "ID", "NAME" }, parser.getCSVHeaders() );
+        Assert.assertTrue( parser.hasReadOnlyColumns() );
+        Assert.assertEquals( "\"7\";\"seven\"", parser.toCSV( new ImmutableBean( 7, "seven" ), new CSVDelimiters() ) );
+
+        final CSVImporter< ImmutableBean > importer = CSVBuilder
+                .newImporter( ImmutableBean.class )
+                .ignoringErrors( false )
+                .constructingByPosition( true )
+                .build();
+        try( final CSVImporter< ImmutableBean >.CSVReader reader = importer.fromFile(
+                new ByteArrayInputStream( "ID;NAME\n7;\"seven\"\n8;\"eight\"\n".getBytes( StandardCharsets.UTF_8 ) ) ) )
+        {
+            final List< ImmutableBean > beans = reader.readNext( 3 );
+            Assert.assertEquals( 2, beans.size() );
+            Assert.assertEquals( 8, beans.get( 1 ).id );
+            Assert.assertEquals( "eight", beans.get( 1 ).name );
+        }
+    }
+
+    @Test( expected = ExceptionCSVBeanConfiguration.class )
+    public void test_GivenImmutableBean_ThenImportThroughFactory_ShouldThrowException()
+    {
+        CSVBuilder.newImporter( ImmutableBean.class ).build();
+    }
+
+    @Test( expected = ExceptionCSVBeanConfiguration.class )
+    public void test_GivenParserWithoutPositionalConstructor_ThenFindIt_ShouldThrowException()
+    {
+        new CSVParserAnnotation<>( PrimitiveBean.class ).findPositionalConstructor( PrimitiveBean.class );
+    }
+
+    @Test
+    public void test_GivenParser_ThenAppendBeanToCSV_ShouldWriteTheSameAsToCSV() throws IOException
+    {
+        final CSVParserAnnotation< PrimitiveBean > primitiveParser = new CSVParserAnnotation<>( PrimitiveBean.class );
+        final PrimitiveBean primitiveBean = new PrimitiveBean();
+        primitiveBean.intColumn = Integer.MIN_VALUE;
+        primitiveBean.longColumn = Long.MAX_VALUE;
+        primitiveBean.doubleColumn = -0.125;
+        primitiveBean.booleanColumn = true;
+
+        final CSVParserAnnotation< CompositeBean > compositeParser = new CSVParserAnnotation<>( CompositeBean.class );
+        final MapperCSV[] mappers = compositeParser.indexCSVMappers( MappingCSV.mapping( "C2", o -> ( (InnerBean)o ).getNumber() == null
+                ? null
+                : ( (InnerBean)o ).getNumber().toString() ) );
+        final CompositeBean[] compositeBeans = {
+                new CompositeBean( "aaa", new InnerBean( 123 ) ),
+                new CompositeBean( null, new InnerBean( null ) ),
+                new CompositeBean( "", null ) };
+
+        final CSVDelimiters[] allDelimiters = { new CSVDelimiters(), new CSVDelimiters( ",", "\r\n", null, null ) };
+        for( CSVDelimiters delimiters : allDelimiters )
+        {
+            Assert.assertEquals(
+                    primitiveParser.toCSV( primitiveBean, delimiters, new MapperCSV[ 4 ] ),
+                    append( appender -> primitiveParser.appendCSV( primitiveBean, delimiters, new MapperCSV[ 4 ], appender ) ) );
+            for( CompositeBean bean : compositeBeans )
+            {
+                Assert.assertEquals(
+                        compositeParser.toCSV( bean, delimiters, mappers ),
+                        append( appender -> compositeParser.appendCSV( bean, delimiters, mappers, appender ) ) );
+            }
+        }
+    }
+
+    private interface Appending
+    {
+        void append( CSVAppender appender ) throws IOException;
+    }
+
+    private static String append( Appending appending ) throws IOException
+    {
+        final StringWriter writer = new StringWriter();
+        final CSVAppender appender = new CSVAppender( writer, 4 );
+        appending.append( appender );
+        appender.endRow();
+        appender.flush();
+        return writer.toString();
+    }
+
     @Test( expected = ExceptionCSVMapping.class )
     public void test_GivenParser_ThenParseCSVToBean_WhenHeaderIsNotCompatible_ShouldThrowException()
     {
@@ -163,6 +307,61 @@ public class CSVParserAnnotationTest
         }
     }
 
+    @CSVBean
+    private static class PrimitiveBean
+    {
+        @CSVColumn( column = 1 )
+        private int intColumn;
+
+        @CSVColumn( column = 2 )
+        private long longColumn;
+
+        @CSVColumn( column = 3 )
+        private double doubleColumn;
+
+        @CSVColumn( column = 4 )
+        private boolean booleanColumn;
+    }
+
+    @CSVBean
+    private static class ConstructedBean
+    {
+        @CSVColumn( name = "ID", column = 1 )
+        private int id;
+
+        @CSVColumn( name = "NAME", column = 2 )
+        private String name;
+
+        @CSVColumn( name = "AMOUNT", column = 3 )
+        private long amount;
+
+        private int constructions;
+
+        ConstructedBean( int id, String name, long amount )
+        {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+            this.constructions++;
+        }
+    }
+
+    @CSVBean
+    private static class ImmutableBean
+    {
+        @CSVColumn( name = "ID", column = 1 )
+        private final int id;
+
+        @CSVColumn( name = "NAME", column = 2 )
+        private final String name;
+
+        ImmutableBean( int id, String name )
+        {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
     @CSVBean( shouldSkipHeader = true, shouldVerifyHeader = true, shouldWriteHeader = false )
     private class BeanCustomConfig
     {
@@ -0,0 +1,208 @@
+package com.bquarkz.simplecsv;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class CSVReadAheadInputStreamTest
+{
+    private static byte[] content( int length )
+    {
+        final byte[] bytes = new byte[ length ];
+        new Random( 42 ).nextBytes( bytes );
+        return bytes;
+    }
+
+    /**
+     * Hands out at most a few bytes per read, as a slow network source would
+     */
+    private static InputStream trickle( byte[] bytes )
+    {
+        return new ByteArrayInputStream( bytes )
+        {
+            @Override
+            public synchronized int read( byte[] b, int off, int len )
+            {
+                return super.read( b, off, Math.min( len, 3 ) );
+            }
+        };
+    }
+
+    private static byte[] readAll( InputStream inputStream, int chunk ) throws IOException
+    {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final byte[] bytes = new byte[ chunk ];
+        int read;
+        while( ( read = inputStream.read( bytes, 0, bytes.length ) ) != -1 )
+        {
+            baos.write( bytes, 0, read );
+        }
+        return baos.toByteArray();
+    }
+
+    @Test
+    public void test_GivenReadAhead_ThenReadEverything_ShouldKeepTheContentAndItsOrder() throws IOException
+    {
+        final byte[] bytes = content( 10_000 );
+        for( int buffers = 2; buffers <= 4; buffers++ )
+        {
+            try( final CSVReadAheadInputStream inputStream = new CSVReadAheadInputStream( trickle( bytes ), buffers, 64 ) )
+            {
+                Assert.assertArrayEquals( bytes, readAll( inputStream, 100 ) );
+                Assert.assertEquals( -1, inputStream.read() );
+            }
+        }
+    }
+
+    @Test
+    public void test_GivenReadAhead_ThenReadByteByByte_ShouldBeOk() throws IOException
+    {
+        final byte[] bytes = content( 300 );
+        try( final CSVReadAheadInputStream inputStream = new CSVReadAheadInputStream( new ByteArrayInputStream( bytes ), 2, 16 ) )
+        {
+            for( byte b : bytes )
+            {
+                Assert.assertEquals( b & 0xFF, inputStream.read() );
+            }
+            Assert.assertEquals( -1, inputStream.read() );
+        }
+    }
+
+    @Test( timeout = 5000 )
+    public void test_GivenSourceStillOpen_ThenRead_ShouldHandOverWhatArrived() throws IOException
+    {
+        final PipedInputStream source = new PipedInputStream();
+        final PipedOutputStream sink = new PipedOutputStream( source );
+        sink.write( "1;a\n2;b\n".getBytes( "US-ASCII" ) );
+        sink.flush();
+
+        try( final CSVReadAheadInputStream inputStream = new CSVReadAheadInputStream( source, 2, 1024 ) )
+        {
+            final byte[] bytes = new byte[ 8 ];
+            int length = 0;
+            while( length < bytes.length )
+            {
+                length += inputStream.read( bytes, length, bytes.length - length );
+            }
+            Assert.assertEquals( "1;a\n2;b\n", new String( bytes, "US-ASCII" ) );
+        }
+        finally
+        {
+            sink.close();
+        }
+    }
+
+    @Test
+    public void test_GivenFailingSource_ThenRead_ShouldThrowTheSourceException() throws IOException
+    {
+        final InputStream failing = new InputStream()
+        {
+            private int count;
+
+            @Override
+            public int read() throws IOException
+            {
+                if( count++ >= 100 ) throw new IOException( "broken source" );
+                return 'a';
+            }
+
+            @Override
+            public int read( byte[] b, int off, int len ) throws IOException
+            {
+                b[ off ] = (byte)read();
+                return 1;
+            }
+        };
+
+        try( final CSVReadAheadInputStream inputStream = new CSVReadAheadInputStream( failing, 2, 32 ) )
+        {
+            readAll( inputStream, 10 );
+            Assert.fail();
+        }
+        catch( IOException e )
+        {
+            Assert.assertEquals( "broken source", e.getMessage() );
+        }
+    }
+
+    @Test
+    public void test_GivenReadAhead_WhenClosed_ShouldCloseTheSource() throws IOException
+    {
+        final boolean[] closed = { false };
+        final InputStream source = new ByteArrayInputStream( content( 1000 ) )
+        {
+            @Override
+            public void close()
+            {
+                closed[ 0 ] = true;
+            }
+        };
+
+        final CSVReadAheadInputStream inputStream = new CSVReadAheadInputStream( source, 2, 16 );
+        inputStream.read();
+        inputStream.close();
+        Assert.assertTrue( closed[ 0 ] );
+    }
+
+    @Test
+    public void test_GivenFillerInsideRead_WhenClosed_ShouldCloseTheSourceAfterTheRead() throws IOException
+    {
+        final AtomicBoolean reading = new AtomicBoolean();
+        final boolean[] closedDuringRead = { false };
+        final InputStream source = new InputStream()
+        {
+            @Override
+            public int read() throws IOException
+            {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read( byte[] b, int off, int len ) throws IOException
+            {
+                reading.set( true );
+                try
+                {
+                    Thread.sleep( 10_000 );
+                    return -1;
+                }
+                catch( InterruptedException e )
+                {
+                    final long until = System.nanoTime() + 50_000_000L; // some work left before leaving the read
+                    while( System.nanoTime() < until )
+                    {
+                        Thread.yield();
+                    }
+                    throw new InterruptedIOException();
+                }
+                finally
+                {
+                    reading.set( false );
+                }
+            }
+
+            @Override
+            public void close()
+            {
+                closedDuringRead[ 0 ] = reading.get();
+            }
+        };
+
+        final CSVReadAheadInputStream inputStream = new CSVReadAheadInputStream( source, 2, 16 );
+        while( !reading.get() )
+        {
+            Thread.yield();
+        }
+        inputStream.close();
+        Assert.assertFalse( closedDuringRead[ 0 ] );
+    }
+}
@@ -0,0 +1,86 @@
+package com.bquarkz.simplecsv;
+
+import com.bquarkz.simplecsv.CSVRowsFixture.RowBean;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+public class CSVRowIndexTest
+{
+    private static final int ROWS = 10000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static CSVImporterBuilder< RowBean > newImporter()
+    {
+        return CSVBuilder
+                .newImporter( RowBean.class )
+                .ignoringErrors( false )
+                .withRowIndexStride( 64 );
+    }
+
+    @Test
+    public void test_GivenFile_ThenIndexRows_ShouldPersistTheIndexNextToIt() throws IOException
+    {
+        final File file = CSVRowsFixture.writeCSV( folder, "#exported\n", ROWS, 100 );
+        final CSVImporter< RowBean > importer = newImporter().build();
+
+        final CSVRowIndex index = importer.indexRows( file.getPath() );
+        Assert.assertEquals( ROWS, index.getRows() );
+        Assert.assertEquals( 64, index.getStride() );
+        Assert.assertTrue( CSVRowIndex.sidecarOf( file ).isFile() );
+
+        final CSVRowIndex loaded = CSVRowIndex.load( file, StandardCharsets.UTF_8, new CSVDelimiters() );
+        Assert.assertNotNull( loaded );
+        Assert.assertEquals( ROWS, loaded.getRows() );
+        Assert.assertEquals( index.offsetOf( 640 ), loaded.offsetOf( 640 ) );
+
+        Files.write( file.toPath(), "ID;NAME\n1;\"one\"\n".getBytes( StandardCharsets.UTF_8 ) );
+        Assert.assertNull( CSVRowIndex.load( file, StandardCharsets.UTF_8, new CSVDelimiters() ) );
+        Assert.assertEquals( 1, importer.indexRows( file.getPath() ).getRows() );
+    }
+
+    @Test
+    public void test_GivenIndexedFile_ThenReadFromRow_ShouldReadJustThatSlice() throws IOException
+    {
+        final File file = CSVRowsFixture.writeCSV( folder, "#exported\n", ROWS, 100 );
+        final CSVImporter< RowBean > importer = newImporter().verifyingHeader( true ).build();
+        for( long firstRow : new long[]{ 0, 63, 64, 5000, 9998 } )
+        {
+            try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath(), firstRow ) )
+            {
+                final List< RowBean > beans = reader.readNext( 3 );
+                Assert.assertEquals( Math.min( 3, ROWS - firstRow ), beans.size() );
+                for( int i = 0; i < beans.size(); i++ )
+                {
+                    Assert.assertEquals( firstRow + i, beans.get( i ).id );
+                    Assert.assertTrue( beans.get( i ).name.startsWith( "name " + ( firstRow + i ) ) );
+                }
+            }
+        }
+
+        try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath(), ROWS ) )
+        {
+            Assert.assertTrue( reader.readNext( 3 ).isEmpty() );
+        }
+    }
+
+    @Test
+    public void test_GivenIndexedFileBoundByName_ThenStreamFromRow_ShouldBindTheHeaderFirst() throws IOException
+    {
+        final File file = CSVRowsFixture.writeCSV( folder, "#exported\n", ROWS, 100 );
+        final CSVImporter< RowBean > importer = newImporter().bindingHeaderByName( true ).projecting( "ID" ).build();
+        try( final CSVImporter< RowBean >.CSVReader reader = importer.fromFile( file.getPath(), 9000 ) )
+        {
+            Assert.assertEquals( 9000L * 1000 + ( 999 * 1000 ) / 2, reader.stream().mapToLong( bean -> bean.id ).sum() );
+        }
+    }
+}
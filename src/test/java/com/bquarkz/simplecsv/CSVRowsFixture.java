@@ -0,0 +1,53 @@
+package com.bquarkz.simplecsv;
+
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Numbered rows shared by the tests reading files from an offset: "ID;NAME" after the given head, every so many
+ * names carry a quoted new line
+ */
+final class CSVRowsFixture
+{
+    private CSVRowsFixture()
+    {
+    }
+
+    static File writeCSV( TemporaryFolder folder, String head, int rows, int newLineEvery ) throws IOException
+    {
+        final StringBuilder csv = new StringBuilder( head ).append( "ID;NAME\n" );
+        for( int i = 0; i < rows; i++ )
+        {
+            csv.append( i ).append( ";\"name " ).append( i );
+            if( i % newLineEvery == 0 ) csv.append( "\nwith a new line" );
+            csv.append( "\"\n" );
+        }
+        final File file = folder.newFile( "rows.csv" );
+        Files.write( file.toPath(), csv.toString().getBytes( StandardCharsets.UTF_8 ) );
+        return file;
+    }
+
+    @CSVBean( shouldSkipHeader = true )
+    static class RowBean
+    {
+        @CSVColumn( name = "ID", column = 1 )
+        int id;
+
+        @CSVColumn( name = "NAME", column = 2 )
+        String name;
+
+        public RowBean()
+        {
+        }
+
+        RowBean( int id, String name )
+        {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}